@@ -0,0 +1,104 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.api.meeting.dto.response.MeetingDetailResponse;
+import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
+import com.cover.time2gather.infra.meeting.MeetingSummaryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 상세 조회 hot path 벤치마크
+ *
+ * - BestSlotBuilder.buildSummaryData: O(K × D × S² × U/64)
+ * - snapshotWrite: 요약 스냅샷 구성 + 인코딩 (선택 저장 시 재작성 비용, BestSlot 계산 제외)
+ * - snapshotRead: 스냅샷 디코딩 + 날짜/슬롯별 참여자·BestSlot 복원 (상세 조회 경로)
+ * - MeetingDetailResponse.from: 도메인 → 응답 DTO 변환
+ * - QuorumWindowFinder.find: 스냅샷 비트맵 two-pointer 탐색 O(D × S × U/64), 절반 인원 이상 / 4슬롯 이상
+ *
+ * 처리량(ops/s)과 함께 gc 프로파일러로 op당 할당량(gc.alloc.rate.norm)을 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MeetingSummaryBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int users;
+
+    @Param({"7", "31"})
+    private int dates;
+
+    @Param({"15", "30", "60"})
+    private int intervalMinutes;
+
+    @Param({"0.2", "0.5", "0.8"})
+    private double density;
+
+    private SyntheticMeeting data;
+    private BestSlotBuilder bestSlotBuilder;
+    private MeetingDetailData.SummaryData summary;
+    private byte[] snapshotPayload;
+    private MeetingDetailData detailData;
+    private MeetingSummaryContent snapshotContent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = SyntheticMeeting.generate(users, dates, intervalMinutes, density);
+        bestSlotBuilder = new BestSlotBuilder();
+        summary = bestSlotBuilder.buildSummaryData(data.meeting, data.selections, data.userMap, users);
+        snapshotPayload = MeetingSummaryCodec.encode(MeetingSummaryContent.of(data.selections, summary));
+        MeetingSummaryContent content = MeetingSummaryCodec.decode(snapshotPayload);
+        snapshotContent = content;
+
+        detailData = new MeetingDetailData(
+                data.meeting,
+                data.participants.get(0),
+                data.participants,
+                data.selections,
+                content.toScheduleData(data.userMap),
+                content.toSummaryData(data.userMap),
+                true,
+                new MeetingDetailData.LocationData(false, List.of(), null)
+        );
+    }
+
+    @Benchmark
+    public MeetingDetailData.SummaryData bestSlotSummary() {
+        return bestSlotBuilder.buildSummaryData(data.meeting, data.selections, data.userMap, users);
+    }
+
+    @Benchmark
+    public byte[] snapshotWrite() {
+        return MeetingSummaryCodec.encode(MeetingSummaryContent.of(data.selections, summary));
+    }
+
+    @Benchmark
+    public void snapshotRead(Blackhole blackhole) {
+        MeetingSummaryContent content = MeetingSummaryCodec.decode(snapshotPayload);
+        blackhole.consume(content.toScheduleData(data.userMap));
+        blackhole.consume(content.toSummaryData(data.userMap));
+    }
+
+    @Benchmark
+    public MeetingDetailResponse detailResponse() {
+        return MeetingDetailResponse.from(detailData);
+    }
+
+    @Benchmark
+    public List<QuorumWindow> quorumWindows() {
+        return QuorumWindowFinder.find(snapshotContent, Math.max(1, users / 2), 4);
+    }
+}
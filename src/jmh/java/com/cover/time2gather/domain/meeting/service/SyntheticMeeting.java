@@ -0,0 +1,99 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.user.User;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크용 합성 모임 데이터
+ *
+ * 고정 seed로 생성하므로 같은 파라미터는 항상 같은 데이터를 만듭니다.
+ * 각 참여자는 날짜마다 연속 구간 단위로 슬롯을 선택하며, density는 전체 슬롯 중 대략적인 선택 비율입니다.
+ */
+final class SyntheticMeeting {
+
+    private static final long SEED = 20240215L;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    final Meeting meeting;
+    final List<MeetingUserSelection> selections;
+    final Map<Long, User> userMap;
+    final List<User> participants;
+
+    private SyntheticMeeting(Meeting meeting, List<MeetingUserSelection> selections, Map<Long, User> userMap) {
+        this.meeting = meeting;
+        this.selections = selections;
+        this.userMap = userMap;
+        this.participants = new ArrayList<>(userMap.values());
+    }
+
+    static SyntheticMeeting generate(int users, int dates, int intervalMinutes, double density) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int slotsPerDay = MINUTES_PER_DAY / intervalMinutes;
+        int[] allSlots = IntStream.range(0, slotsPerDay).toArray();
+
+        Map<String, int[]> availableDates = new LinkedHashMap<>();
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        for (int d = 0; d < dates; d++) {
+            availableDates.put(start.plusDays(d).toString(), allSlots);
+        }
+
+        Meeting meeting = Meeting.create(
+                "mtg_bench", "벤치마크", null, 1L, "Asia/Seoul",
+                SelectionType.TIME, intervalMinutes, availableDates);
+
+        Map<Long, User> userMap = new HashMap<>();
+        List<MeetingUserSelection> selections = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            userMap.put(userId, User.builder()
+                    .username("user" + userId)
+                    .provider(User.AuthProvider.ANONYMOUS)
+                    .providerId("anon_" + userId)
+                    .build());
+
+            Map<String, int[]> userSelections = new HashMap<>();
+            for (String date : availableDates.keySet()) {
+                userSelections.put(date, pickSlots(random, slotsPerDay, density));
+            }
+            selections.add(MeetingUserSelection.create(
+                    1L, userId, SelectionType.TIME, intervalMinutes, userSelections));
+        }
+
+        return new SyntheticMeeting(meeting, selections, userMap);
+    }
+
+    /**
+     * 연속 구간(run) 단위 선택: 선택/미선택 구간 길이를 번갈아 뽑아 density 비율에 맞춤
+     * 선택은 비어있을 수 없으므로 최소 1개 슬롯은 포함
+     */
+    private static int[] pickSlots(SplittableRandom random, int slotsPerDay, double density) {
+        int meanRun = Math.max(2, slotsPerDay / 12);
+        IntStream.Builder picked = IntStream.builder();
+        int slot = random.nextInt(meanRun);
+        int count = 0;
+
+        while (slot < slotsPerDay) {
+            int selectedRun = 1 + random.nextInt((int) Math.max(1, 2 * meanRun * density));
+            for (int i = 0; i < selectedRun && slot < slotsPerDay; i++, slot++) {
+                picked.add(slot);
+                count++;
+            }
+            slot += 1 + random.nextInt((int) Math.max(1, 2 * meanRun * (1 - density)));
+        }
+
+        if (count == 0) {
+            picked.add(random.nextInt(slotsPerDay));
+        }
+        return picked.build().toArray();
+    }
+}
@@ -3,12 +3,13 @@ package com.cover.time2gather.api.auth;
 import com.cover.time2gather.api.auth.dto.request.OAuthLoginRequest;
 import com.cover.time2gather.api.auth.dto.response.OAuthLoginResponse;
 import com.cover.time2gather.api.auth.dto.response.UserInfoResponse;
+import com.cover.time2gather.api.auth.dto.response.UserMeetingPageResponse;
 import com.cover.time2gather.api.auth.vo.JwtTokenCookie;
 import com.cover.time2gather.api.common.ApiResponse;
 import com.cover.time2gather.config.security.CurrentUser;
 import com.cover.time2gather.domain.auth.service.OAuthLoginResult;
 import com.cover.time2gather.domain.auth.service.OAuthLoginService;
-import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.user.MeetingPage;
 import com.cover.time2gather.domain.user.User;
 import com.cover.time2gather.domain.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,8 +25,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "인증 API", description = "OAuth2/OIDC 로그인 관련 API")
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -115,13 +114,43 @@ public class AuthController {
     })
     @GetMapping("/me")
     public ApiResponse<UserInfoResponse> getCurrentUser(@CurrentUser User user) {
-        List<Meeting> createdMeetings = userService.getCreatedMeetings(user.getId());
-        List<Meeting> participatedMeetings = userService.getParticipatedMeetings(user.getId());
+        MeetingPage createdMeetings = userService.getCreatedMeetings(user.getId(), null, UserService.DEFAULT_PAGE_SIZE);
+        MeetingPage participatedMeetings = userService.getParticipatedMeetings(user.getId(), null, UserService.DEFAULT_PAGE_SIZE);
 
         UserInfoResponse response = UserInfoResponse.from(user, createdMeetings, participatedMeetings);
         return ApiResponse.success(response);
     }
 
+    @Operation(
+            summary = "생성한 모임 목록 조회",
+            description = "로그인된 사용자가 생성한 모임을 최근 생성순으로 페이지 단위 조회합니다. 이전 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.",
+            security = @SecurityRequirement(name = "cookieAuth")
+    )
+    @GetMapping("/me/created-meetings")
+    public ApiResponse<UserMeetingPageResponse<UserInfoResponse.CreatedMeetingInfo>> getCreatedMeetings(
+            @CurrentUser User user,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 " + UserService.MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        MeetingPage page = userService.getCreatedMeetings(user.getId(), cursor, size);
+        return ApiResponse.success(UserMeetingPageResponse.created(page));
+    }
+
+    @Operation(
+            summary = "참여한 모임 목록 조회",
+            description = "로그인된 사용자가 참여한 모임을 최근 참여순으로 페이지 단위 조회합니다. 이전 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다.",
+            security = @SecurityRequirement(name = "cookieAuth")
+    )
+    @GetMapping("/me/participated-meetings")
+    public ApiResponse<UserMeetingPageResponse<UserInfoResponse.ParticipatedMeetingInfo>> getParticipatedMeetings(
+            @CurrentUser User user,
+            @Parameter(description = "다음 페이지 커서 (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 " + UserService.MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        MeetingPage page = userService.getParticipatedMeetings(user.getId(), cursor, size);
+        return ApiResponse.success(UserMeetingPageResponse.participated(page));
+    }
+
     @Operation(
             summary = "[테스트용] JWT 토큰 생성",
             description = "개발/테스트 환경에서 사용할 JWT 토큰을 직접 생성합니다. User ID를 입력하면 해당 사용자의 JWT 토큰을 발급받아 Swagger UI에서 테스트할 수 있습니다."
@@ -1,6 +1,7 @@
 package com.cover.time2gather.api.auth.dto.response;
 
 import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.user.MeetingPage;
 import com.cover.time2gather.domain.user.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -35,16 +36,22 @@ public class UserInfoResponse {
     @Schema(description = "가입 일시", example = "2025-11-15T10:00:00")
     private String createdAt;
 
-    @Schema(description = "생성한 모임 목록")
+    @Schema(description = "생성한 모임 목록 (첫 페이지)")
     private List<CreatedMeetingInfo> createdMeetings;
 
-    @Schema(description = "참여한 모임 목록")
+    @Schema(description = "생성한 모임 다음 페이지 커서 (GET /api/v1/auth/me/created-meetings, 없으면 null)", nullable = true)
+    private String createdMeetingsNextCursor;
+
+    @Schema(description = "참여한 모임 목록 (첫 페이지)")
     private List<ParticipatedMeetingInfo> participatedMeetings;
 
+    @Schema(description = "참여한 모임 다음 페이지 커서 (GET /api/v1/auth/me/participated-meetings, 없으면 null)", nullable = true)
+    private String participatedMeetingsNextCursor;
+
     /**
-     * User 엔티티와 생성한 모임 목록으로부터 UserInfoResponse 생성
+     * User 엔티티와 생성/참여한 모임 첫 페이지로부터 UserInfoResponse 생성
      */
-    public static UserInfoResponse from(User user, List<Meeting> createdMeetings, List<Meeting> participatedMeetings) {
+    public static UserInfoResponse from(User user, MeetingPage createdMeetings, MeetingPage participatedMeetings) {
         // 익명 사용자인 경우 providerId에서 미팅 코드 추출 (형식: meetingCode:username)
         String anonymousMeetingCode = null;
         if (user.getProvider() == User.AuthProvider.ANONYMOUS && user.getProviderId() != null) {
@@ -62,12 +69,14 @@ public class UserInfoResponse {
                 .provider(user.getProvider().name())
                 .anonymousMeetingCode(anonymousMeetingCode)
                 .createdAt(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null)
-                .createdMeetings(createdMeetings.stream()
+                .createdMeetings(createdMeetings.meetings().stream()
                         .map(CreatedMeetingInfo::from)
                         .collect(Collectors.toList()))
-                .participatedMeetings(participatedMeetings.stream()
+                .createdMeetingsNextCursor(createdMeetings.nextCursor())
+                .participatedMeetings(participatedMeetings.meetings().stream()
                         .map(ParticipatedMeetingInfo::from)
                         .collect(Collectors.toList()))
+                .participatedMeetingsNextCursor(participatedMeetings.nextCursor())
                 .build();
     }
 
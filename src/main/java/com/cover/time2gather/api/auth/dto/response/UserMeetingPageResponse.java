@@ -0,0 +1,43 @@
+package com.cover.time2gather.api.auth.dto.response;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.user.MeetingPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Schema(description = "사용자 모임 목록 페이지 응답")
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserMeetingPageResponse<T> {
+
+    @Schema(description = "모임 목록")
+    private List<T> meetings;
+
+    @Schema(description = "다음 페이지 커서 (cursor 파라미터로 전달, 마지막 페이지면 null)", example = "MjAyNS0xMS0xNVQxMDowMCwxMg", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static UserMeetingPageResponse<UserInfoResponse.CreatedMeetingInfo> created(MeetingPage page) {
+        return from(page, UserInfoResponse.CreatedMeetingInfo::from);
+    }
+
+    public static UserMeetingPageResponse<UserInfoResponse.ParticipatedMeetingInfo> participated(MeetingPage page) {
+        return from(page, UserInfoResponse.ParticipatedMeetingInfo::from);
+    }
+
+    private static <T> UserMeetingPageResponse<T> from(MeetingPage page,
+                                                       Function<Meeting, T> mapper) {
+        List<T> meetings = page.meetings().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new UserMeetingPageResponse<>(meetings, page.nextCursor(), page.hasNext());
+    }
+}
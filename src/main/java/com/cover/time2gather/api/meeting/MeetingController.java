@@ -5,12 +5,15 @@ import com.cover.time2gather.api.meeting.dto.ConfirmMeetingRequest;
 import com.cover.time2gather.api.meeting.dto.request.AddLocationRequest;
 import com.cover.time2gather.api.meeting.dto.request.ConfirmLocationRequest;
 import com.cover.time2gather.api.meeting.dto.request.CreateMeetingRequest;
+import com.cover.time2gather.api.meeting.dto.request.UpdateParticipantPriorityRequest;
 import com.cover.time2gather.api.meeting.dto.request.UpsertUserSelectionRequest;
 import com.cover.time2gather.api.meeting.dto.request.VoteLocationsRequest;
 import com.cover.time2gather.api.meeting.dto.response.CreateMeetingResponse;
 import com.cover.time2gather.api.meeting.dto.response.LocationResponse;
 import com.cover.time2gather.api.meeting.dto.response.MeetingDetailResponse;
 import com.cover.time2gather.api.meeting.dto.response.MeetingReportResponse;
+import com.cover.time2gather.api.meeting.dto.response.QuorumWindowResponse;
+import com.cover.time2gather.api.meeting.dto.response.SlotCountResponse;
 import com.cover.time2gather.api.meeting.dto.response.UserLocationSelectionsResponse;
 import com.cover.time2gather.api.meeting.dto.response.UserSelectionResponse;
 import com.cover.time2gather.config.security.JwtAuthentication;
@@ -20,6 +23,7 @@ import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingDetailData;
 import com.cover.time2gather.domain.meeting.MeetingLocation;
 import com.cover.time2gather.domain.meeting.MeetingReport;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
 import com.cover.time2gather.domain.meeting.service.MeetingFacadeService;
 import com.cover.time2gather.domain.meeting.service.CalendarExportService;
 import com.cover.time2gather.domain.meeting.service.MeetingLocationService;
@@ -33,9 +37,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/meetings")
@@ -76,19 +83,80 @@ public class MeetingController {
     }
 
     @GetMapping("/{meetingCode}")
-    @Operation(summary = "Get meeting detail", description = "Retrieves meeting detail information. (Authentication optional)")
+    @Operation(
+        summary = "Get meeting detail",
+        description = """
+            Retrieves meeting detail information. (Authentication optional)
+            - Responds with a strong `ETag` derived from the meeting's change version.
+            - Send it back as `If-None-Match` to get `304 Not Modified` without a body while nothing has changed.
+            """
+    )
     public ApiResponse<MeetingDetailResponse> getMeetingDetail(
             @PathVariable String meetingCode,
-            @AuthenticationPrincipal JwtAuthentication authentication
+            @AuthenticationPrincipal JwtAuthentication authentication,
+            WebRequest webRequest
     ) {
-        // Service 호출 (비즈니스 로직)
         Long currentUserId = authentication != null ? authentication.getUserId() : null;
-        MeetingDetailData detailData = meetingService.getMeetingDetailData(meetingCode, currentUserId);
+
+        // 변경 버전만 먼저 조회하여 바뀌지 않았으면 304 (참여 여부가 사용자별로 다르므로 사용자 ID 포함)
+        Optional<Long> changeVersion = meetingService.getMeetingChangeVersion(meetingCode);
+        if (changeVersion.isPresent()
+                && webRequest.checkNotModified(detailETag(changeVersion.get(), currentUserId))) {
+            return null;
+        }
+
+        // Service 호출 (ETag와 같은 버전으로 캐시 조회)
+        MeetingDetailData detailData = meetingService.getMeetingDetailData(meetingCode, currentUserId, changeVersion);
 
         // 도메인 → DTO 변환
         return ApiResponse.success(MeetingDetailResponse.from(detailData));
     }
 
+    @GetMapping("/{meetingCode}/slot-counts")
+    @Operation(
+        summary = "Get slot counts",
+        description = """
+            Retrieves the number of participants for each date/time (heatmap).
+            - Served from a pre-aggregated count maintained on every selection update.
+            - Participant names are not included. Use `GET /meetings/{code}` for full details.
+            - ALL_DAY type meetings use "ALL_DAY" as the time key.
+        """
+    )
+    public ApiResponse<SlotCountResponse> getSlotCounts(
+            @PathVariable String meetingCode
+    ) {
+        Meeting meeting = meetingService.getMeetingByCode(meetingCode);
+        Map<String, Map<Integer, Integer>> slotCounts = selectionService.getSlotCounts(meeting.getId());
+
+        return ApiResponse.success(SlotCountResponse.from(slotCounts, meeting.getIntervalMinutes()));
+    }
+
+    @GetMapping("/{meetingCode}/quorum")
+    @Operation(
+        summary = "Find quorum windows",
+        description = """
+            Finds time windows where the same `minAttendees` or more participants are available
+            for at least `minSlots` consecutive slots.
+            - The condition is checked per window: the same people must have selected every slot in the window.
+              Different people covering different slots does not count.
+            - `attendeeCount` / `attendeeIds` are the people available for the whole window.
+            - Only maximal windows are returned (any shorter window inside also qualifies).
+              Windows may overlap when they are attended by different groups.
+            - ALL_DAY type meetings return whole days and ignore `minSlots`.
+        """
+    )
+    public ApiResponse<QuorumWindowResponse> getQuorumWindows(
+            @PathVariable String meetingCode,
+            @RequestParam int minAttendees,
+            @RequestParam(defaultValue = "1") int minSlots
+    ) {
+        Meeting meeting = meetingService.getMeetingByCode(meetingCode);
+        List<QuorumWindow> windows = selectionService.getQuorumWindows(meeting, minAttendees, minSlots);
+
+        return ApiResponse.success(QuorumWindowResponse.from(
+                windows, minAttendees, minSlots, meeting.getIntervalMinutes()));
+    }
+
     @GetMapping("/{meetingCode}/selections")
     @Operation(summary = "Get my selections", description = "Retrieves current user's time selections.")
     public ApiResponse<UserSelectionResponse> getUserSelections(
@@ -237,9 +305,17 @@ public class MeetingController {
     }
 
     @GetMapping("/{meetingCode}/report")
-    @Operation(summary = "Get meeting report", description = "Retrieves AI-generated meeting summary report. (No authentication required)")
+    @Operation(
+        summary = "Get meeting report",
+        description = """
+            Retrieves AI-generated meeting summary report. (No authentication required)
+            - Responds with a strong `ETag` derived from the report's input hash and summary text.
+            - Send it back as `If-None-Match` to get `304 Not Modified` without a body.
+            """
+    )
     public ApiResponse<MeetingReportResponse> getMeetingReport(
-            @PathVariable String meetingCode
+            @PathVariable String meetingCode,
+            WebRequest webRequest
     ) {
         Meeting meeting = meetingService.getMeetingByCode(meetingCode);
         MeetingReport report = selectionService.getMeetingReport(meeting.getId());
@@ -248,6 +324,10 @@ public class MeetingController {
             return ApiResponse.success(null);
         }
 
+        if (webRequest.checkNotModified(reportETag(report))) {
+            return null;
+        }
+
         return ApiResponse.success(MeetingReportResponse.from(report));
     }
 
@@ -375,6 +455,35 @@ public class MeetingController {
         return ApiResponse.success(null);
     }
 
+    @PutMapping("/{meetingCode}/participants/{userId}/priority")
+    @Operation(
+        summary = "Update participant priority",
+        description = """
+            Host marks a participant as required and/or sets their weight for best slot ranking.
+            - Only the host can update priorities.
+            - Only participants who have selected times can be updated.
+            - Ranges (or ALL_DAY dates) missing a required participant are excluded from best slots.
+            - Best slots are ranked by the sum of weights of participants available for the whole range.
+        """
+    )
+    public ApiResponse<Void> updateParticipantPriority(
+            @AuthenticationPrincipal JwtAuthentication authentication,
+            @PathVariable String meetingCode,
+            @PathVariable Long userId,
+            @Valid @RequestBody UpdateParticipantPriorityRequest request
+    ) {
+        Meeting meeting = meetingService.getMeetingByCode(meetingCode);
+
+        // 호스트 권한 확인
+        if (!meeting.getHostUserId().equals(authentication.getUserId())) {
+            throw new BusinessException(ErrorCode.MEETING_HOST_ONLY);
+        }
+
+        meetingService.updateParticipantPriority(meeting, userId, request.getRequired(), request.getWeight());
+
+        return ApiResponse.success(null);
+    }
+
     @PostMapping("/{meetingCode}/locations")
     @Operation(
         summary = "Add location",
@@ -543,5 +652,18 @@ public class MeetingController {
         }
         return String.format("meeting_%s_%s.ics", date, timeString.replace(":", ""));
     }
-}
 
+    private String detailETag(long changeVersion, Long currentUserId) {
+        return "\"" + changeVersion + "-" + (currentUserId != null ? currentUserId : "anonymous") + "\"";
+    }
+
+    /**
+     * 레포트 ETag (입력 해시 + 요약 본문 해시)
+     * updated_at은 초 단위 TIMESTAMP라 같은 초에 다시 생성되면 구분되지 않고, 저장 직후(나노초)와 재조회 값도 달라지므로 사용하지 않음
+     */
+    private String reportETag(MeetingReport report) {
+        String inputHash = report.getInputHash() != null ? report.getInputHash() : "none";
+        return "\"report-" + report.getId() + "-" + inputHash + "-"
+                + Integer.toHexString(Objects.hashCode(report.getSummaryText())) + "\"";
+    }
+}
@@ -0,0 +1,78 @@
+package com.cover.time2gather.api.meeting;
+
+import com.cover.time2gather.api.meeting.stream.MeetingReportStreamer;
+import com.cover.time2gather.api.meeting.stream.MeetingStreamRegistry;
+import com.cover.time2gather.config.security.JwtAuthentication;
+import com.cover.time2gather.domain.exception.BusinessException;
+import com.cover.time2gather.domain.exception.ErrorCode;
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.service.MeetingSelectionService;
+import com.cover.time2gather.domain.meeting.service.MeetingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/meetings")
+@RequiredArgsConstructor
+@Tag(name = "Meeting", description = "Meeting management APIs")
+public class MeetingStreamController {
+
+    private final MeetingService meetingService;
+    private final MeetingSelectionService selectionService;
+    private final MeetingStreamRegistry meetingStreamRegistry;
+    private final MeetingReportStreamer meetingReportStreamer;
+
+    @GetMapping(value = "/{meetingCode}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream meeting changes",
+        description = """
+            Server-Sent Events stream of committed changes to the meeting. (No authentication required)
+            - `connected`: sent once after subscribing.
+            - `selection`: `{userId, joined, slotCountDelta}` where slotCountDelta is the per date/slot count change (ALL_DAY uses slot -1).
+            - `priority`, `location`: `{userId}`. Re-fetch the meeting detail for the updated ranking or votes.
+            - `confirmation`: `{confirmed, confirmedDate, confirmedSlotIndex, locationConfirmed, confirmedLocationId}`.
+            - `resync`: the client fell behind and deltas were dropped. Re-fetch the meeting detail.
+            """
+    )
+    public SseEmitter streamMeetingChanges(@PathVariable String meetingCode) {
+        // 존재하지 않는 모임이면 404
+        meetingService.getMeetingByCode(meetingCode);
+        return meetingStreamRegistry.subscribe(meetingCode);
+    }
+
+    @GetMapping(value = "/{meetingCode}/report/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Generate meeting report with streaming",
+        description = """
+            Generates the AI meeting summary and streams it as Server-Sent Events while it is being written. (Authentication required)
+            Only the host or a participant who has selected times can generate the report, since each generation calls the AI provider.
+            The final text is saved as the meeting report, so anyone can read it afterwards with `GET /{meetingCode}/report`.
+            If a generation for the meeting is already in progress, the client joins it instead of starting another one.
+            - `connected`: sent immediately after subscribing.
+            - `delta`: `{text}` next piece of the report. A client that joins late first receives the text generated so far as one delta.
+            - `done`: `{text}` the complete saved report.
+            - `error`: `{message}` generation failed and nothing was saved. Also sent while the background report worker is generating the same meeting's report.
+            """
+    )
+    public SseEmitter streamMeetingReport(
+            @PathVariable String meetingCode,
+            @AuthenticationPrincipal JwtAuthentication authentication
+    ) {
+        Meeting meeting = meetingService.getMeetingByCode(meetingCode);
+
+        // AI 호출 비용이 드는 생성은 방장/참여자만 가능
+        Long userId = authentication.getUserId();
+        if (!meeting.getHostUserId().equals(userId) && !selectionService.isParticipant(meeting.getId(), userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return meetingReportStreamer.stream(meeting.getId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.cover.time2gather.api.meeting.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Update participant priority request")
+public class UpdateParticipantPriorityRequest {
+
+    @NotNull(message = "{validation.priority.required.required}")
+    @Schema(description = "Whether the participant is required (ranges missing this participant are excluded)", example = "true")
+    private Boolean required;
+
+    @NotNull(message = "{validation.priority.weight.required}")
+    @Schema(description = "Weight used for best slot ranking (1~10, default 1)", example = "3")
+    private Integer weight;
+}
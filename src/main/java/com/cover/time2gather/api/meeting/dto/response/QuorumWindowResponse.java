@@ -0,0 +1,100 @@
+package com.cover.time2gather.api.meeting.dto.response;
+
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
+import com.cover.time2gather.domain.meeting.vo.TimeSlot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Quorum window response")
+public class QuorumWindowResponse {
+
+    @Schema(description = "Requested minimum number of attendees", example = "8")
+    private int minAttendees;
+
+    @Schema(description = "Requested minimum number of consecutive slots", example = "4")
+    private int minSlots;
+
+    @Schema(description = "Maximal windows where the same minAttendees or more people are available for every slot (date, start time order)")
+    private List<Window> windows;
+
+    /**
+     * 도메인 slotIndex → API "HH:mm" 변환
+     */
+    public static QuorumWindowResponse from(
+            List<QuorumWindow> quorumWindows,
+            int minAttendees,
+            int minSlots,
+            int intervalMinutes
+    ) {
+        List<Window> windows = quorumWindows.stream()
+                .map(window -> Window.from(window, intervalMinutes))
+                .collect(Collectors.toList());
+        return new QuorumWindowResponse(minAttendees, minSlots, windows);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "Quorum window")
+    public static class Window {
+
+        @Schema(description = "Date", example = "2024-02-15")
+        private String date;
+
+        @Schema(description = "Start time ('ALL_DAY' for ALL_DAY type)", example = "18:00")
+        private String startTime;
+
+        @Schema(description = "End time, exclusive ('ALL_DAY' for ALL_DAY type)", example = "20:00")
+        private String endTime;
+
+        @Schema(description = "Start slot index (-1 for ALL_DAY type)", example = "36")
+        private int startSlotIndex;
+
+        @Schema(description = "End slot index, inclusive (-1 for ALL_DAY type)", example = "39")
+        private int endSlotIndex;
+
+        @Schema(description = "Number of slots in the window", example = "4")
+        private int slotCount;
+
+        @Schema(description = "Number of people available for the whole window (not a per-slot count)", example = "8")
+        private int attendeeCount;
+
+        @Schema(description = "IDs of the people available for the whole window (ascending)")
+        private List<Long> attendeeIds;
+
+        private static Window from(QuorumWindow window, int intervalMinutes) {
+            boolean isAllDay = window.startSlotIndex() == MeetingSlotCount.ALL_DAY_SLOT;
+            String startTime = isAllDay
+                    ? "ALL_DAY"
+                    : TimeSlot.fromIndex(window.startSlotIndex(), intervalMinutes).toTimeString();
+            String endTime = isAllDay
+                    ? "ALL_DAY"
+                    : formatEndTime(window.endSlotIndex(), intervalMinutes);
+
+            return new Window(
+                    window.date(),
+                    startTime,
+                    endTime,
+                    window.startSlotIndex(),
+                    window.endSlotIndex(),
+                    window.slotCount(),
+                    window.attendeeCount(),
+                    window.attendeeIds()
+            );
+        }
+
+        /**
+         * 종료 시간은 endSlotIndex + 1의 시작 시간 (마지막 슬롯이면 "24:00")
+         */
+        private static String formatEndTime(int endSlotIndex, int intervalMinutes) {
+            int totalMinutes = (endSlotIndex + 1) * intervalMinutes;
+            return String.format("%02d:%02d", totalMinutes / 60, totalMinutes % 60);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cover.time2gather.api.meeting.dto.response;
+
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.vo.TimeSlot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Slot count (heatmap) response")
+public class SlotCountResponse {
+
+    @Schema(description = "Number of participants by date/time ('ALL_DAY' key for ALL_DAY type)",
+            example = "{\"2024-02-15\": {\"09:00\": 3, \"10:00\": 2}}")
+    private Map<String, Map<String, Integer>> counts;
+
+    /**
+     * 도메인 slotIndex → API "HH:mm" 변환
+     */
+    public static SlotCountResponse from(Map<String, Map<Integer, Integer>> slotCounts, int intervalMinutes) {
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, Integer>> dateEntry : slotCounts.entrySet()) {
+            Map<String, Integer> timeCounts = new HashMap<>();
+            for (Map.Entry<Integer, Integer> slotEntry : dateEntry.getValue().entrySet()) {
+                int slot = slotEntry.getKey();
+                String time = (slot == MeetingSlotCount.ALL_DAY_SLOT)
+                        ? "ALL_DAY"
+                        : TimeSlot.fromIndex(slot, intervalMinutes).toTimeString();
+                timeCounts.put(time, slotEntry.getValue());
+            }
+            result.put(dateEntry.getKey(), timeCounts);
+        }
+        return new SlotCountResponse(result);
+    }
+}
@@ -0,0 +1,190 @@
+package com.cover.time2gather.api.meeting.stream;
+
+import com.cover.time2gather.domain.meeting.service.ReportWorkerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모임 레포트 스트리밍 생성
+ *
+ * 요청 시 레포트를 생성하면서 생성되는 조각을 SSE로 바로 전달하고, 끝까지 생성되면 MeetingReport에 저장합니다.
+ * 같은 모임에 대해 생성 중이면 새로 생성하지 않고 합류하여, 지금까지 생성된 텍스트를 먼저 받은 뒤 이후 조각을 받습니다.
+ *
+ * 이벤트:
+ * - connected: 구독 직후 (응답 헤더를 바로 내보내 첫 바이트 대기 시간을 줄임)
+ * - delta: {text} 생성된 조각
+ * - done: {text} 저장된 전체 텍스트
+ * - error: {message} 생성 실패 (저장하지 않음)
+ */
+@Slf4j
+@Component
+public class MeetingReportStreamer {
+
+    private final ReportWorkerService reportWorkerService;
+    private final AsyncTaskExecutor reportTaskExecutor;
+    private final long timeoutMillis;
+
+    private final Map<Long, Generation> generations = new ConcurrentHashMap<>();
+
+    public MeetingReportStreamer(
+            ReportWorkerService reportWorkerService,
+            @Qualifier("reportTaskExecutor") AsyncTaskExecutor reportTaskExecutor,
+            @Value("${report.stream.timeout:3m}") Duration timeout
+    ) {
+        this.reportWorkerService = reportWorkerService;
+        this.reportTaskExecutor = reportTaskExecutor;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 레포트 스트림 구독 (생성 중이 아니면 생성 시작)
+     */
+    public SseEmitter stream(Long meetingId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        send(emitter, "connected", Map.of("meetingId", meetingId));
+
+        boolean[] started = {false};
+        Generation generation = generations.computeIfAbsent(meetingId, id -> {
+            started[0] = true;
+            return new Generation();
+        });
+        generation.join(emitter);
+
+        if (started[0]) {
+            try {
+                reportTaskExecutor.execute(() -> generate(meetingId, generation));
+            } catch (RuntimeException e) {
+                log.error("Failed to start report streaming. meetingId={}", meetingId, e);
+                generations.remove(meetingId, generation);
+                generation.fail();
+            }
+        }
+        return emitter;
+    }
+
+    private void generate(Long meetingId, Generation generation) {
+        try {
+            String summaryText = reportWorkerService.generateReportStreaming(meetingId, generation::append);
+            generation.complete(summaryText);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Failed to stream meeting report. meetingId={}", meetingId, e);
+            generation.fail();
+        } finally {
+            generations.remove(meetingId, generation);
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 진행 중인 생성 (누적 텍스트와 구독자 목록)
+     * 조각 전달은 생성 스레드(가상 스레드)에서 수행하므로, 전송 중 캐리어 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+     * 느린 구독자는 생성 속도를 늦출 수 있습니다.
+     */
+    private static final class Generation {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final StringBuilder text = new StringBuilder();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private boolean finished;
+        private boolean failed;
+
+        void join(SseEmitter emitter) {
+            lock.lock();
+            try {
+                if (finished) {
+                    finish(emitter);
+                    return;
+                }
+                if (!text.isEmpty() && !send(emitter, "delta", Map.of("text", text.toString()))) {
+                    return;
+                }
+                emitters.add(emitter);
+                emitter.onCompletion(() -> leave(emitter));
+                emitter.onTimeout(() -> leave(emitter));
+                emitter.onError(e -> leave(emitter));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void append(String chunk) {
+            lock.lock();
+            try {
+                text.append(chunk);
+                Map<String, String> data = Map.of("text", chunk);
+                emitters.removeIf(emitter -> !send(emitter, "delta", data));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(String summaryText) {
+            lock.lock();
+            try {
+                text.setLength(0);
+                text.append(summaryText);
+                finishAll(false);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void fail() {
+            lock.lock();
+            try {
+                finishAll(true);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void leave(SseEmitter emitter) {
+            lock.lock();
+            try {
+                emitters.remove(emitter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finishAll(boolean failed) {
+            this.finished = true;
+            this.failed = failed;
+            List<SseEmitter> targets = new ArrayList<>(emitters);
+            emitters.clear();
+            targets.forEach(this::finish);
+        }
+
+        private void finish(SseEmitter emitter) {
+            if (failed) {
+                send(emitter, "error", Map.of("message", "Report generation failed"));
+            } else {
+                send(emitter, "done", Map.of("text", text.toString()));
+            }
+            emitter.complete();
+        }
+    }
+}
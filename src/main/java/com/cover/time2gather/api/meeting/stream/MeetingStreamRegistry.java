@@ -0,0 +1,210 @@
+package com.cover.time2gather.api.meeting.stream;
+
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임별 실시간 스트림 구독자 레지스트리
+ *
+ * 변경이 커밋되면 해당 모임의 구독자에게 delta를 전달합니다.
+ * 전송은 구독자별 버퍼에 넣은 뒤 전송 실행기(가상 스레드)가 비우므로, 느린 클라이언트가 커밋 스레드를 막지 않습니다.
+ * 구독자마다 별도 전송 작업으로 실행되어, TCP 윈도우가 가득 찬 클라이언트의 blocking send가 다른 구독자나 heartbeat를 막지 않습니다.
+ *
+ * - 버퍼 크기는 구독자별로 고정 (meeting.stream.buffer-size)
+ * - 버퍼가 가득 차면 쌓인 delta를 버리고 resync 이벤트 하나만 남김 (클라이언트는 상세를 다시 조회)
+ * - 연결 유지를 위해 heartbeat 주석을 주기적으로 전송
+ */
+@Slf4j
+@Component
+public class MeetingStreamRegistry {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor sendExecutor;
+    private final long timeoutMillis;
+    private final int bufferSize;
+
+    public MeetingStreamRegistry(
+            @Qualifier("meetingStreamScheduler") ScheduledExecutorService heartbeatScheduler,
+            @Qualifier("meetingStreamSendExecutor") Executor sendExecutor,
+            @Value("${meeting.stream.timeout:30m}") Duration timeout,
+            @Value("${meeting.stream.buffer-size:32}") int bufferSize,
+            @Value("${meeting.stream.heartbeat-interval:25s}") Duration heartbeatInterval
+    ) {
+        this.sendExecutor = sendExecutor;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 모임 스트림 구독
+     */
+    public SseEmitter subscribe(String meetingCode) {
+        return subscribe(meetingCode, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String meetingCode, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(meetingCode, emitter);
+
+        subscribers.computeIfAbsent(meetingCode, code -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscriber.offer(StreamEvent.of("connected", Map.of("meetingCode", meetingCode)));
+        return emitter;
+    }
+
+    /**
+     * 커밋된 변경을 구독자에게 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMeetingChangedEvent(MeetingChangedEvent event) {
+        Set<Subscriber> meetingSubscribers = subscribers.get(event.meetingCode());
+        if (meetingSubscribers == null || event.change() == null) {
+            return;
+        }
+
+        StreamEvent streamEvent = StreamEvent.of(event.change().eventName(), event.change());
+        for (Subscriber subscriber : meetingSubscribers) {
+            subscriber.offer(streamEvent);
+        }
+    }
+
+    int getSubscriberCount(String meetingCode) {
+        Set<Subscriber> meetingSubscribers = subscribers.get(meetingCode);
+        return meetingSubscribers != null ? meetingSubscribers.size() : 0;
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> meetingSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : meetingSubscribers) {
+                subscriber.offer(StreamEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.meetingCode, (code, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 전송할 이벤트 (name이 null이면 heartbeat 주석)
+     */
+    record StreamEvent(String name, Object data) {
+
+        static final StreamEvent HEARTBEAT = new StreamEvent(null, null);
+
+        static StreamEvent of(String name, Object data) {
+            return new StreamEvent(name, data);
+        }
+
+        SseEmitter.SseEventBuilder toSseEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    /**
+     * 구독자별 bounded 버퍼와 전송 상태
+     */
+    private final class Subscriber {
+
+        private final String meetingCode;
+        private final SseEmitter emitter;
+        private final ArrayDeque<StreamEvent> buffer;
+        private boolean draining;
+        private volatile boolean closed;
+
+        private Subscriber(String meetingCode, SseEmitter emitter) {
+            this.meetingCode = meetingCode;
+            this.emitter = emitter;
+            this.buffer = new ArrayDeque<>(bufferSize);
+        }
+
+        private void offer(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+
+            synchronized (this) {
+                if (buffer.size() >= bufferSize) {
+                    // 느린 클라이언트: 쌓인 delta 대신 전체 재조회를 요청
+                    buffer.clear();
+                    buffer.add(StreamEvent.of(RESYNC_EVENT, Map.of("meetingCode", meetingCode)));
+                    log.debug("Meeting stream buffer overflow. meetingCode={}", meetingCode);
+                } else {
+                    buffer.add(event);
+                }
+
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        private void drain() {
+            while (!closed) {
+                StreamEvent event;
+                synchronized (this) {
+                    event = buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event.toSseEvent());
+                } catch (IOException | IllegalStateException e) {
+                    // 연결이 끊긴 구독자
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            unsubscribe(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 emitter
+            }
+        }
+    }
+}
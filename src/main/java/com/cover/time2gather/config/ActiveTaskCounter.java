@@ -0,0 +1,30 @@
+package com.cover.time2gather.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중인 작업 수를 세는 TaskDecorator
+ * 가상 스레드 실행기는 스레드 풀이 없어 활성 스레드 수를 알 수 없으므로 작업 단위로 셉니다.
+ */
+public class ActiveTaskCounter implements TaskDecorator {
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return () -> {
+            activeCount.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                activeCount.decrementAndGet();
+            }
+        };
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+}
@@ -2,12 +2,24 @@ package com.cover.time2gather.config;
 
 import com.cover.time2gather.infra.ai.AiChatClient;
 import com.cover.time2gather.infra.ai.AiProviderType;
+import com.cover.time2gather.infra.ai.TimedAiChatClient;
+import com.cover.time2gather.infra.ai.cache.AiResponseCache;
+import com.cover.time2gather.infra.ai.cache.CachingAiChatClient;
+import com.cover.time2gather.infra.ai.cache.FileAiResponseCache;
+import com.cover.time2gather.infra.ai.cache.MemoryAiResponseCache;
+import com.cover.time2gather.infra.ai.cache.TieredAiResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,10 +38,16 @@ public class AiConfig {
 
     /**
      * 활성화된 Provider에 따라 AiChatClient Bean 선택
+     * provider 호출 지연 시간을 기록하고, 응답 캐시가 활성화되어 있으면 그 앞에 캐시를 둡니다.
+     * (캐시 hit는 provider 지연 시간에 포함되지 않음)
      */
     @Bean
     @Primary
-    public AiChatClient aiChatClient(List<AiChatClient> clients) {
+    public AiChatClient aiChatClient(
+            List<AiChatClient> clients,
+            MeterRegistry meterRegistry,
+            ObjectProvider<AiResponseCache> aiResponseCache
+    ) {
         Map<String, AiChatClient> clientMap = clients.stream()
                 .collect(Collectors.toMap(AiChatClient::getProviderName, Function.identity()));
 
@@ -42,7 +60,32 @@ public class AiConfig {
         }
 
         log.info("Using AI provider: {} ({})", selectedClient.getProviderName(), providerType.getDescription());
-        return selectedClient;
+
+        AiChatClient timedClient = new TimedAiChatClient(selectedClient, meterRegistry);
+        AiResponseCache cache = aiResponseCache.getIfAvailable();
+        return cache != null ? new CachingAiChatClient(timedClient, cache) : timedClient;
+    }
+
+    /**
+     * AI 응답 캐시 (메모리, disk.enabled이면 메모리 → 디스크 2계층)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ai.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public AiResponseCache aiResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.maximum-size:500}") long maximumSize,
+            @Value("${ai.cache.ttl:24h}") Duration ttl,
+            @Value("${ai.cache.disk.enabled:false}") boolean diskEnabled,
+            @Value("${ai.cache.disk.directory:${java.io.tmpdir}/time2gather-ai-cache}") Path diskDirectory,
+            @Value("${ai.cache.disk.maximum-entries:5000}") int diskMaximumEntries
+    ) {
+        AiResponseCache memory = new MemoryAiResponseCache(meterRegistry, maximumSize, ttl);
+        if (!diskEnabled) {
+            return memory;
+        }
+        log.info("AI response disk cache enabled. directory={}", diskDirectory);
+        return new TieredAiResponseCache(
+                memory, new FileAiResponseCache(diskDirectory, ttl, diskMaximumEntries, Clock.systemUTC()));
     }
 }
 
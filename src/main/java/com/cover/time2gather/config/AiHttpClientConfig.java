@@ -0,0 +1,94 @@
+package com.cover.time2gather.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.ai.model.openai.autoconfigure.OpenAiChatProperties;
+import org.springframework.ai.model.openai.autoconfigure.OpenAiConnectionProperties;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.http.client.reactive.ClientHttpConnectorBuilder;
+import org.springframework.boot.http.client.reactive.ClientHttpConnectorSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * AI provider HTTP 전송 설정
+ *
+ * OpenAI 호출 전용 RestClient/WebClient로 OpenAiChatModel을 직접 구성하여 (자동 구성 모델 대체)
+ * 연결 풀과 타임아웃(ai.http.*)이 provider 호출에만 적용되게 합니다.
+ * 애플리케이션의 다른 HTTP 클라이언트는 spring.http.client 기본값을 그대로 사용합니다.
+ *
+ * - 일반 호출: Apache HttpClient 연결 풀 + connect/read timeout
+ * - 스트리밍 호출: WebClient connector + connect/stream read timeout
+ * - API 키, base-url, 모델 옵션은 spring.ai.openai.* 설정을 그대로 사용
+ */
+@Configuration
+public class AiHttpClientConfig {
+
+    @Bean
+    public OpenAiChatModel openAiChatModel(
+            OpenAiConnectionProperties connectionProperties,
+            OpenAiChatProperties chatProperties,
+            ToolCallingManager toolCallingManager,
+            RetryTemplate retryTemplate,
+            ResponseErrorHandler responseErrorHandler,
+            ObjectProvider<ObservationRegistry> observationRegistry,
+            @Value("${ai.http.max-connections:50}") int maxConnections,
+            @Value("${ai.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${ai.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${ai.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${ai.http.read-timeout:120s}") Duration readTimeout,
+            @Value("${ai.http.stream-read-timeout:60s}") Duration streamReadTimeout
+    ) {
+        RestClient.Builder restClientBuilder = RestClient.builder()
+                .requestFactory(ClientHttpRequestFactoryBuilder.httpComponents()
+                        .withConnectionManagerCustomizer(builder -> builder
+                                .setMaxConnTotal(maxConnections)
+                                .setMaxConnPerRoute(maxConnectionsPerRoute))
+                        .withHttpClientCustomizer(builder -> builder
+                                .evictExpiredConnections()
+                                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis())))
+                        .build(ClientHttpRequestFactorySettings.defaults()
+                                .withConnectTimeout(connectTimeout)
+                                .withReadTimeout(readTimeout)));
+
+        WebClient.Builder webClientBuilder = WebClient.builder()
+                .clientConnector(ClientHttpConnectorBuilder.detect()
+                        .build(ClientHttpConnectorSettings.defaults()
+                                .withConnectTimeout(connectTimeout)
+                                .withReadTimeout(streamReadTimeout)));
+
+        OpenAiApi openAiApi = OpenAiApi.builder()
+                .baseUrl(firstNonBlank(chatProperties.getBaseUrl(), connectionProperties.getBaseUrl()))
+                .apiKey(firstNonBlank(chatProperties.getApiKey(), connectionProperties.getApiKey()))
+                .completionsPath(chatProperties.getCompletionsPath())
+                .restClientBuilder(restClientBuilder)
+                .webClientBuilder(webClientBuilder)
+                .responseErrorHandler(responseErrorHandler)
+                .build();
+
+        return OpenAiChatModel.builder()
+                .openAiApi(openAiApi)
+                .defaultOptions(chatProperties.getOptions())
+                .toolCallingManager(toolCallingManager)
+                .retryTemplate(retryTemplate)
+                .observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+                .build();
+    }
+
+    private static String firstNonBlank(String preferred, String fallback) {
+        return StringUtils.hasText(preferred) ? preferred : fallback;
+    }
+}
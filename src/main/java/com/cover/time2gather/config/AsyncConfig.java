@@ -1,14 +1,21 @@
 package com.cover.time2gather.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 
 /**
  * 비동기 작업 처리를 위한 설정
@@ -18,37 +25,126 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 레포트 생성 실행기 (report.executor.mode)
+     *
+     * - virtual: 작업마다 가상 스레드 생성 (LLM 응답 대기 중에도 플랫폼 스레드를 점유하지 않음)
+     * - platform: 고정 크기 스레드 풀
+     *
+     * 어느 모드든 요청을 넘긴 스레드에서 작업을 대신 실행하지 않습니다.
+     * platform 모드에서 큐가 가득 차면 RejectedExecutionException을 던지고, 폴러가 작업을 다시 대기 상태로 돌려놓습니다.
+     * AI 호출 동시 실행 수는 실행기와 별도로 reportAiSemaphore로 제한합니다.
+     * 실행 중인 작업 수는 reportActiveTaskCounter로 셉니다. (ReportMetricsBinder)
+     */
     @Bean(name = "reportTaskExecutor")
-    public ThreadPoolTaskExecutor reportTaskExecutor() {
+    public AsyncTaskExecutor reportTaskExecutor(
+            @Value("${report.executor.mode:virtual}") String mode
+    ) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("report-vt-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(60_000);
+            executor.setTaskDecorator(reportActiveTaskCounter());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(30);
         executor.setQueueCapacity(300);
         executor.setKeepAliveSeconds(60);
         executor.setThreadNamePrefix("report-");
+        executor.setTaskDecorator(reportActiveTaskCounter());
 
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
 
         executor.setRejectedExecutionHandler((runnable, exec) -> {
-            log.warn("Thread pool is full. Running task synchronously in caller thread. Queue: {}, Active: {}",
+            log.warn("Thread pool is full. Rejecting report task. Queue: {}, Active: {}",
                     exec.getQueue().size(), exec.getActiveCount());
-            if (!exec.isShutdown()) {
-                runnable.run();
-            }
+            throw new RejectedExecutionException("Report task queue is full");
         });
 
         executor.initialize();
         return executor;
     }
 
-    @Bean(name = "reportRetryScheduler", destroyMethod = "shutdown")
-    public ScheduledExecutorService reportRetryScheduler() {
-        return Executors.newScheduledThreadPool(5, runnable -> {
+    /**
+     * 레포트 생성 실행기의 실행 중 작업 수
+     */
+    @Bean(name = "reportActiveTaskCounter")
+    public ActiveTaskCounter reportActiveTaskCounter() {
+        return new ActiveTaskCounter();
+    }
+
+    /**
+     * 레포트 생성 시 AI 제공자 호출 동시 실행 수 제한
+     * 가상 스레드는 허가를 기다리는 동안 플랫폼 스레드를 반납합니다.
+     */
+    @Bean(name = "reportAiSemaphore")
+    public Semaphore reportAiSemaphore(
+            @Value("${report.executor.ai-concurrency:8}") int permits
+    ) {
+        return new Semaphore(Math.max(1, permits), true);
+    }
+
+    /**
+     * 레포트 생성 작업(report_jobs) 폴링 전용 스케줄러 (가져온 작업은 reportTaskExecutor에서 실행하므로 스레드 1개)
+     */
+    @Bean(name = "reportJobScheduler", destroyMethod = "shutdown")
+    public ScheduledExecutorService reportJobScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
             Thread thread = new Thread(runnable);
-            thread.setName("report-retry-" + thread.getName());
+            thread.setName("report-job-" + thread.getName());
             thread.setDaemon(true);
             return thread;
         });
     }
+
+    /**
+     * 모임 실시간 스트림 heartbeat 전용 스케줄러
+     * heartbeat를 구독자 버퍼에 넣기만 하고 실제 전송은 meetingStreamSendExecutor에서 실행합니다.
+     */
+    @Bean(name = "meetingStreamScheduler", destroyMethod = "shutdown")
+    public ScheduledExecutorService meetingStreamScheduler(
+            @Value("${meeting.stream.threads:1}") int threads
+    ) {
+        return Executors.newScheduledThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("meeting-stream-" + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모임 실시간 스트림 전송 실행기
+     * 구독자 버퍼 비우기마다 가상 스레드를 사용하므로, blocking send로 멈춘 클라이언트가 다른 구독자의 전송을 막지 않습니다.
+     */
+    @Bean(name = "meetingStreamSendExecutor", destroyMethod = "shutdown")
+    public ExecutorService meetingStreamSendExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("meeting-stream-vt-", 0).factory());
+    }
+
+    /**
+     * BestSlot 날짜별 병렬 평가 전용 풀
+     * 공용 풀(commonPool)과 분리하여 요청 처리 스레드나 다른 parallel stream에 영향을 주지 않도록 합니다.
+     */
+    @Bean(name = "bestSlotForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool bestSlotForkJoinPool(
+            @Value("${meeting.best-slot.parallelism:4}") int parallelism
+    ) {
+        int boundedParallelism = Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors()));
+        return new ForkJoinPool(
+                boundedParallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("best-slot-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null,
+                false
+        );
+    }
 }
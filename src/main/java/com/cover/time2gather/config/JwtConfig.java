@@ -1,10 +1,14 @@
 package com.cover.time2gather.config;
 
 import com.cover.time2gather.domain.auth.jwt.JwtTokenService;
+import com.cover.time2gather.domain.auth.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class JwtConfig {
 
@@ -15,8 +19,23 @@ public class JwtConfig {
     private long jwtExpirationMs;
 
     @Bean
-    public JwtTokenService jwtTokenService() {
-        return new JwtTokenService(jwtSecret, jwtExpirationMs);
+    public JwtTokenService jwtTokenService(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtTokenService(jwtSecret, jwtExpirationMs, verifiedTokenCache);
     }
-}
 
+    /**
+     * 검증된 JWT 캐시 (같은 쿠키로 반복 요청 시 서명 검증 생략, 토큰 만료 시각에 함께 만료)
+     */
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.verified-cache.max-ttl:10m}") Duration maxTtl
+    ) {
+        if (!enabled) {
+            return VerifiedTokenCache.disabled();
+        }
+        return new VerifiedTokenCache(meterRegistry, maximumSize, maxTtl);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cover.time2gather.config;
+
+import com.cover.time2gather.domain.meeting.ReportJobStatus;
+import com.cover.time2gather.infra.meeting.ReportJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 레포트 생성 실행기/작업 적재량 gauge
+ *
+ * - report.executor.active: 실행 중인 레포트 작업 수
+ * - report.executor.queued: 실행 대기 중인 작업 수 (platform 모드만, virtual 모드는 큐 없이 바로 실행)
+ * - report.ai.active / report.ai.waiting: AI 호출 허가를 얻은 작업 수 / 허가를 기다리는 작업 수
+ * - report.jobs{state=pending|retrying|running|failed}: report_jobs 상태별 작업 수 (재시도 대기는 retrying)
+ *
+ * report.jobs는 scrape마다 상태별 COUNT 쿼리를 실행합니다. (status 인덱스 사용)
+ */
+@Component
+public class ReportMetricsBinder implements MeterBinder {
+
+    private final AsyncTaskExecutor reportTaskExecutor;
+    private final ActiveTaskCounter reportActiveTaskCounter;
+    private final Semaphore reportAiSemaphore;
+    private final ReportJobRepository reportJobRepository;
+    private final int aiConcurrency;
+
+    public ReportMetricsBinder(
+            @Qualifier("reportTaskExecutor") AsyncTaskExecutor reportTaskExecutor,
+            ActiveTaskCounter reportActiveTaskCounter,
+            @Qualifier("reportAiSemaphore") Semaphore reportAiSemaphore,
+            ReportJobRepository reportJobRepository,
+            @Value("${report.executor.ai-concurrency:8}") int aiConcurrency
+    ) {
+        this.reportTaskExecutor = reportTaskExecutor;
+        this.reportActiveTaskCounter = reportActiveTaskCounter;
+        this.reportAiSemaphore = reportAiSemaphore;
+        this.reportJobRepository = reportJobRepository;
+        this.aiConcurrency = Math.max(1, aiConcurrency);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("report.executor.active", reportActiveTaskCounter, ActiveTaskCounter::getActiveCount)
+                .description("Report tasks currently running")
+                .register(registry);
+        if (reportTaskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            Gauge.builder("report.executor.queued", pool, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                    .description("Report tasks waiting in the executor queue")
+                    .register(registry);
+        }
+
+        Gauge.builder("report.ai.active", reportAiSemaphore, semaphore -> aiConcurrency - semaphore.availablePermits())
+                .description("Report tasks holding an AI call permit")
+                .register(registry);
+        Gauge.builder("report.ai.waiting", reportAiSemaphore, Semaphore::getQueueLength)
+                .description("Report tasks waiting for an AI call permit")
+                .register(registry);
+
+        jobGauge(registry, "pending",
+                () -> reportJobRepository.countByStatus(ReportJobStatus.PENDING)
+                        - reportJobRepository.countByStatusAndAttemptsGreaterThan(ReportJobStatus.PENDING, 0));
+        jobGauge(registry, "retrying",
+                () -> reportJobRepository.countByStatusAndAttemptsGreaterThan(ReportJobStatus.PENDING, 0));
+        jobGauge(registry, "running", () -> reportJobRepository.countByStatus(ReportJobStatus.RUNNING));
+        jobGauge(registry, "failed", () -> reportJobRepository.countByStatus(ReportJobStatus.FAILED));
+    }
+
+    private void jobGauge(MeterRegistry registry, String state, Supplier<Number> count) {
+        Gauge.builder("report.jobs", count)
+                .description("Report jobs by state")
+                .tag("state", state)
+                .register(registry);
+    }
+}
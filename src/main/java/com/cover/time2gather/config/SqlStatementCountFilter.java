@@ -0,0 +1,63 @@
+package com.cover.time2gather.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 SQL 문 수를 포함한 access 로그 한 줄을 남기는 필터
+ * 운영(INFO)에서도 모든 요청에 sqlCount가 남도록 INFO로 기록하고, 임계값을 넘으면 WARN으로 올려 N+1 같은 회귀를 찾을 수 있게 합니다.
+ * 이 로그 한 줄에 한해 MDC(sqlCount)에도 넣어 JSON 등 구조화 appender가 필드로 수집할 수 있게 합니다.
+ * 요청 스레드에서 실행된 문만 셉니다 (비동기 레포트 생성 등 다른 스레드의 문은 제외).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    static final String MDC_KEY = "sqlCount";
+
+    private final long warnThreshold;
+
+    public SqlStatementCountFilter(@Value("${sql-count.warn-threshold:30}") long warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long before = SqlStatementCounter.current();
+        long startNanos = System.nanoTime();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long sqlCount = SqlStatementCounter.current() - before;
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            MDC.put(MDC_KEY, String.valueOf(sqlCount));
+            try {
+                if (sqlCount > warnThreshold) {
+                    log.warn("High SQL statement count. {} {} status={} durationMs={} sqlCount={}",
+                            request.getMethod(), request.getRequestURI(), response.getStatus(), durationMs, sqlCount);
+                } else {
+                    log.info("{} {} status={} durationMs={} sqlCount={}",
+                            request.getMethod(), request.getRequestURI(), response.getStatus(), durationMs, sqlCount);
+                }
+            } finally {
+                MDC.remove(MDC_KEY);
+            }
+        }
+    }
+}
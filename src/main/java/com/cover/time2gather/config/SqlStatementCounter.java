@@ -0,0 +1,29 @@
+package com.cover.time2gather.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 문 수를 세는 StatementInspector
+ * Hibernate가 JDBC 문을 준비할 때마다 현재 스레드의 값을 1 늘리며, SQL은 바꾸지 않습니다.
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector로 등록)
+ *
+ * 누적값만 유지하므로 호출 측(요청 필터, 테스트)은 전후 값의 차이로 구간의 문 수를 구합니다.
+ * 스프링 빈이 아니므로 슬라이스 테스트에서도 필터가 별도 의존성 없이 생성됩니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 준비된 SQL 문 수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,86 @@
+package com.cover.time2gather.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 진단 (report.executor.mode=virtual일 때만 동작)
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 jvm.virtual_thread.pinned 타이머에 기록하고,
+ * 고정된 위치(애플리케이션 코드 우선)를 경고 로그로 남깁니다.
+ * synchronized 블록 안에서 I/O를 기다리면 캐리어 스레드가 묶이므로, 이 지표가 늘면 해당 위치를 ReentrantLock 등으로 바꿔야 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "report.executor.mode", havingValue = "virtual", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.cover.time2gather.";
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${report.executor.pinning-threshold:20ms}") Duration threshold
+    ) {
+        this.pinnedTimer = Timer.builder("jvm.virtual_thread.pinned")
+                .description("Time virtual threads spent pinned to a carrier thread")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::record);
+            stream.startAsync();
+            this.recordingStream = stream;
+        } catch (Exception e) {
+            log.warn("JFR is not available. Virtual thread pinning will not be monitored", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned. durationMs={}, at={}", event.getDuration().toMillis(), pinnedAt(event));
+    }
+
+    private String pinnedAt(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
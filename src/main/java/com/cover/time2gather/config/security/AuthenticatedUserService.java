@@ -2,23 +2,56 @@ package com.cover.time2gather.config.security;
 
 import com.cover.time2gather.domain.user.User;
 import com.cover.time2gather.domain.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * Service to extract authenticated user information from SecurityContext.
  * Supports both form login (CustomUserPrincipal) and OAuth2 JWT token authentication.
+ *
+ * Principal resolution is cached in two tiers so that MCP sessions making many tool calls
+ * in quick succession do not query the users table on every call:
+ * - shared: email -> userId for a short TTL (cache=authenticatedUserId). Only the id mapping is shared;
+ *   email never changes after sign-up, so profile updates need no eviction. Failed lookups are not cached.
+ * - request: the resolved User entity, kept in request attributes so getRequiredCurrentUser()
+ *   after getRequiredCurrentUserId() does not load the user again. Never shared across requests,
+ *   so updates are visible to the next request.
  */
 @Service
-@RequiredArgsConstructor
 public class AuthenticatedUserService {
 
+    private static final String CACHE_NAME = "authenticatedUserId";
+    private static final String REQUEST_USER_ATTRIBUTE = AuthenticatedUserService.class.getName() + ".user";
+
     private final UserRepository userRepository;
+    private final Cache<String, Long> userIdByEmail;
+
+    public AuthenticatedUserService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.principal-cache.ttl:30s}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.userIdByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdByEmail, CACHE_NAME);
+    }
 
     /**
      * Get the currently authenticated user's ID.
@@ -43,15 +76,13 @@ public class AuthenticatedUserService {
         if (principal instanceof Jwt jwt) {
             String email = jwt.getClaimAsString("sub");
             if (email != null) {
-                return userRepository.findByEmail(email)
-                        .map(User::getId);
+                return findUserIdByEmail(email);
             }
         }
 
         // Case 3: String principal (email from JWT)
         if (principal instanceof String email) {
-            return userRepository.findByEmail(email)
-                    .map(User::getId);
+            return findUserIdByEmail(email);
         }
 
         return Optional.empty();
@@ -75,7 +106,7 @@ public class AuthenticatedUserService {
      */
     public Optional<User> getCurrentUser() {
         return getCurrentUserId()
-                .flatMap(userRepository::findById);
+                .flatMap(this::findUser);
     }
 
     /**
@@ -88,4 +119,38 @@ public class AuthenticatedUserService {
         return getCurrentUser()
                 .orElseThrow(() -> new IllegalStateException("User is not authenticated"));
     }
+
+    private Optional<Long> findUserIdByEmail(String email) {
+        Long cachedUserId = userIdByEmail.getIfPresent(email);
+        if (cachedUserId != null) {
+            return Optional.of(cachedUserId);
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(found -> {
+            userIdByEmail.put(email, found.getId());
+            rememberInRequest(found);
+        });
+        return user.map(User::getId);
+    }
+
+    private Optional<User> findUser(Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(REQUEST_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && userId.equals(user.getId())) {
+            return Optional.of(user);
+        }
+
+        Optional<User> user = userRepository.findById(userId);
+        user.ifPresent(this::rememberInRequest);
+        return user;
+    }
+
+    private void rememberInRequest(User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
 }
@@ -34,12 +34,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwtToken = extractTokenFromCookie(request);
 
-            if (jwtToken != null && jwtTokenService.validateToken(jwtToken)) {
-                Long userId = jwtTokenService.extractUserId(jwtToken);
-                String username = jwtTokenService.extractUsername(jwtToken);
-
-                JwtAuthentication authentication = new JwtAuthentication(userId, username);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (jwtToken != null) {
+                // 한 번만 검증/파싱 (같은 토큰은 검증 캐시에서 바로 반환)
+                jwtTokenService.verify(jwtToken).ifPresent(verified -> {
+                    JwtAuthentication authentication = new JwtAuthentication(verified.userId(), verified.username());
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         } catch (Exception e) {
             log.debug("JWT authentication failed: {}", e.getMessage());
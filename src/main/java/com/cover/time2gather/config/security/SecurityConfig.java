@@ -1,13 +1,18 @@
 package com.cover.time2gather.config.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -63,11 +68,16 @@ public class SecurityConfig {
     private static final String MEETING_DETAIL_PATTERN = "/api/v1/meetings/*"; // GET /meetings/{code}
     private static final String MEETING_REPORT_PATTERN = "/api/v1/meetings/*/report"; // GET /meetings/{code}/report
     private static final String MEETING_EXPORT_PATTERN = "/api/v1/meetings/*/export"; // POST /meetings/{code}/export
+    private static final String MEETING_SLOT_COUNTS_PATTERN = "/api/v1/meetings/*/slot-counts"; // GET /meetings/{code}/slot-counts
+    private static final String MEETING_QUORUM_PATTERN = "/api/v1/meetings/*/quorum"; // GET /meetings/{code}/quorum
+    private static final String MEETING_STREAM_PATTERN = "/api/v1/meetings/*/stream"; // GET /meetings/{code}/stream (SSE)
 
     private static final String SWAGGER_UI_PATTERN = "/swagger-ui/**";
     private static final String API_DOCS_PATTERN = "/v3/api-docs/**";
     private static final String ACTUATOR_PATTERN = "/actuator/**";
     private static final String HEALTH_CHECK_PATTERN = "/health";
+    private static final String PROMETHEUS_PATTERN = "/prometheus";
+    private static final String METRICS_ROLE = "METRICS";
     private static final String ROOT_PATTERN = "/";
     private static final String FAVICON_PATTERN = "/favicon.ico";
     private static final String CORS_ALL_PATHS = "/**";
@@ -76,6 +86,44 @@ public class SecurityConfig {
     private static final String MCP_PATTERN = "/mcp/**";
     private static final String SSE_PATTERN = "/sse";
 
+    /**
+     * Prometheus scrape용 Security Filter Chain
+     * 내부 지표가 노출되고 scrape마다 report_jobs COUNT 쿼리가 실행되므로 METRICS 권한의 HTTP Basic 인증을 요구합니다.
+     * scrape 비밀번호가 설정되지 않으면 모든 요청을 거부합니다.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain metricsSecurityFilterChain(
+            HttpSecurity http,
+            PasswordEncoder passwordEncoder,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password
+    ) throws Exception {
+        boolean enabled = !password.isBlank();
+
+        http
+                .securityMatcher(PROMETHEUS_PATTERN)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> {
+                    if (enabled) {
+                        auth.requestMatchers("GET", PROMETHEUS_PATTERN).hasRole(METRICS_ROLE);
+                    }
+                    auth.anyRequest().denyAll();
+                });
+
+        if (enabled) {
+            http.userDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(METRICS_ROLE)
+                    .build()));
+        }
+
+        return http.build();
+    }
+
     /**
      * OAuth2 로그인용 Security Filter Chain
      * 폼 로그인 및 세션 기반 인증 (OAuth2 Authorization Server용)
@@ -148,11 +196,15 @@ public class SecurityConfig {
                         .requestMatchers("GET", MEETING_DETAIL_PATTERN).permitAll() // GET /meetings/{code}
                         .requestMatchers("GET", MEETING_REPORT_PATTERN).permitAll() // GET /meetings/{code}/report
                         .requestMatchers("POST", MEETING_EXPORT_PATTERN).permitAll() // POST /meetings/{code}/export
+                        .requestMatchers("GET", MEETING_SLOT_COUNTS_PATTERN).permitAll() // GET /meetings/{code}/slot-counts
+                        .requestMatchers("GET", MEETING_QUORUM_PATTERN).permitAll() // GET /meetings/{code}/quorum
+                        .requestMatchers("GET", MEETING_STREAM_PATTERN).permitAll() // GET /meetings/{code}/stream
 
                         // All other requests require authentication (인증 필요)
                         // - POST /meetings (모임 생성)
                         // - GET /meetings/{code}/selections (내 선택 조회)
                         // - PUT /meetings/{code}/selections (시간 선택/수정)
+                        // - GET /meetings/{code}/report/stream (AI 레포트 생성, 방장/참여자만)
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -1,33 +1,44 @@
 package com.cover.time2gather.domain.auth.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 서비스
+ * 서명 키와 파서는 생성 시 한 번만 만들고, 검증된 토큰은 VerifiedTokenCache에 보관합니다.
+ * 빈은 설정된 VerifiedTokenCache와 함께 JwtConfig#jwtTokenService에서만 생성합니다.
  */
-@Service
 public class JwtTokenService {
 
-    private final String secretKey;
     private final long expirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtTokenService(
-            @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.expiration-ms:3600000}") long expirationMs
-    ) {
-        this.secretKey = secretKey;
+    /**
+     * 검증 캐시 없이 생성 (테스트 등 컨테이너 밖에서 사용)
+     */
+    public JwtTokenService(String secretKey, long expirationMs) {
+        this(secretKey, expirationMs, VerifiedTokenCache.disabled());
+    }
+
+    public JwtTokenService(String secretKey, long expirationMs, VerifiedTokenCache verifiedTokenCache) {
         this.expirationMs = expirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
@@ -49,10 +60,21 @@ public class JwtTokenService {
 			.setSubject(username)
 			.setIssuedAt(now)
 			.setExpiration(expiration)
-			.signWith(getSigningKey(), SignatureAlgorithm.HS256)
+			.signWith(signingKey, SignatureAlgorithm.HS256)
 			.compact();
 	}
 
+	/**
+	 * JWT 토큰 검증 후 인증 정보 반환 (한 번만 파싱)
+	 * 같은 토큰을 다시 검증하면 캐시된 결과를 반환합니다.
+	 *
+	 * @param token JWT 토큰
+	 * @return 유효하면 인증 정보, 아니면 empty
+	 */
+	public Optional<VerifiedToken> verify(String token) {
+		return verifiedTokenCache.get(token, this::parse);
+	}
+
 	/**
 	 * JWT 토큰 검증
 	 *
@@ -60,15 +82,7 @@ public class JwtTokenService {
 	 * @return 유효하면 true, 아니면 false
 	 */
 	public boolean validateToken(String token) {
-		try {
-			Jwts.parser()
-				.setSigningKey(getSigningKey())
-				.build()
-				.parseClaimsJws(token);
-			return true;
-		} catch (Exception e) {
-			return false;
-		}
+		return verify(token).isPresent();
 	}
 
 	/**
@@ -100,16 +114,20 @@ public class JwtTokenService {
 	 * @return Claims
 	 */
 	public Claims extractClaims(String token) {
-		return Jwts.parser()
-			.setSigningKey(getSigningKey())
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+		return parser.parseClaimsJws(token).getBody();
 	}
 
-	private SecretKey getSigningKey() {
-		byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-		return Keys.hmacShaKeyFor(keyBytes);
+	private Optional<VerifiedToken> parse(String token) {
+		try {
+			Claims claims = extractClaims(token);
+			Date expiration = claims.getExpiration();
+			return Optional.of(new VerifiedToken(
+				claims.get("userId", Long.class),
+				claims.getSubject(),
+				expiration != null ? expiration.toInstant() : null
+			));
+		} catch (Exception e) {
+			return Optional.empty();
+		}
 	}
 }
-
@@ -0,0 +1,11 @@
+package com.cover.time2gather.domain.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료를 검증한 JWT의 인증 정보
+ *
+ * @param expiresAt 토큰 만료 시각 (exp 클레임이 없으면 null)
+ */
+public record VerifiedToken(Long userId, String username, Instant expiresAt) {
+}
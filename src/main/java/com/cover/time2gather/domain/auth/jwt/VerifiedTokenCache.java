@@ -0,0 +1,128 @@
+package com.cover.time2gather.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 캐시 (토큰 SHA-256 다이제스트 → 인증 정보)
+ * 같은 쿠키로 반복 요청하면 파싱/HMAC 검증 없이 인증 정보를 반환합니다.
+ *
+ * - 항목은 토큰 만료 시각(최대 max-ttl)에 함께 만료되므로 만료된 토큰을 캐시에서 인정하지 않음
+ * - 검증에 실패한 토큰은 저장하지 않음 (잘못된 토큰으로 캐시를 채우지 못하게)
+ * - 원본 토큰 대신 다이제스트를 키로 사용
+ *
+ * 지표: cache.gets{result=hit|miss}, cache.evictions (cache=jwtVerified), jwt.verified.cache.hit_ratio
+ */
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwtVerified";
+    private static final VerifiedTokenCache DISABLED = new VerifiedTokenCache();
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry, long maximumSize, Duration maxTtl) {
+        this(meterRegistry, maximumSize, maxTtl, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, long maximumSize, Duration maxTtl, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(clock, maxTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("jwt.verified.cache.hit_ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the verified JWT cache since startup")
+                .register(meterRegistry);
+    }
+
+    private VerifiedTokenCache() {
+        this.cache = null;
+        this.clock = null;
+    }
+
+    /**
+     * 캐시를 쓰지 않는 인스턴스 (매번 검증)
+     */
+    public static VerifiedTokenCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * 캐시된 인증 정보 반환, 없으면 verifier로 검증 후 성공한 경우에만 저장
+     */
+    public Optional<VerifiedToken> get(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = verifier.apply(token);
+        verified.filter(this::isNotExpired)
+                .ifPresent(value -> cache.put(key, value));
+        return verified;
+    }
+
+    private boolean isNotExpired(VerifiedToken token) {
+        return token.expiresAt() == null || token.expiresAt().isAfter(clock.instant());
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 항목별 만료: 토큰 만료 시각까지 (max-ttl을 넘지 않음), 조회/갱신으로 연장하지 않음
+     */
+    private record UntilTokenExpiry(Clock clock, Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(maxTtl) < 0 ? remaining.toNanos() : maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -47,6 +47,9 @@ public enum ErrorCode {
     MEETING_HOST_ONLY("error.meeting.host.only", HttpStatus.FORBIDDEN),
     MEETING_NO_PARTICIPANTS("error.meeting.no.participants", HttpStatus.BAD_REQUEST),
     MEETING_DATE_FORMAT_INVALID("error.meeting.date.format.invalid", HttpStatus.BAD_REQUEST),
+    MEETING_QUORUM_INVALID("error.meeting.quorum.invalid", HttpStatus.BAD_REQUEST),
+    MEETING_PARTICIPANT_NOT_FOUND("error.meeting.participant.not.found", HttpStatus.NOT_FOUND),
+    MEETING_PRIORITY_WEIGHT_INVALID("error.meeting.priority.weight.invalid", HttpStatus.BAD_REQUEST),
 
     // ===== Meeting Validation Errors =====
     MEETING_DATE_REQUIRED("error.meeting.validation.date.required", HttpStatus.BAD_REQUEST),
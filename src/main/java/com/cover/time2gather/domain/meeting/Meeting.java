@@ -4,15 +4,15 @@ import com.cover.time2gather.domain.common.BaseEntity;
 import com.cover.time2gather.domain.exception.BusinessException;
 import com.cover.time2gather.domain.exception.ErrorCode;
 import com.cover.time2gather.domain.meeting.vo.TimeSlot;
-import io.hypersistence.utils.hibernate.type.json.JsonType;
+import com.cover.time2gather.infra.meeting.SlotSelectionConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Type;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 @Entity
@@ -61,8 +61,8 @@ public class Meeting extends BaseEntity {
      * TIME 타입: {"2024-02-15": [18, 19, 20, 21], "2024-02-16": [22, 23, 24]}
      * ALL_DAY 타입: {"2024-02-15": [], "2024-02-16": []} (빈 배열 = 하루 종일)
      */
-    @Type(JsonType.class)
-    @Column(name = "available_dates", columnDefinition = "json", nullable = false)
+    @Convert(converter = SlotSelectionConverter.class)
+    @Column(name = "available_date_data", columnDefinition = "varbinary(8192)", nullable = false)
     private Map<String, int[]> availableDates;
 
     @Column(name = "is_active")
@@ -144,6 +144,7 @@ public class Meeting extends BaseEntity {
         }
 
         for (Map.Entry<String, int[]> entry : availableDates.entrySet()) {
+            validateDateFormat(entry.getKey());
             int[] slots = entry.getValue();
             if (slots == null || slots.length == 0) {
                 throw new BusinessException(ErrorCode.MEETING_DATE_SLOT_REQUIRED);
@@ -166,6 +167,7 @@ public class Meeting extends BaseEntity {
         }
 
         for (Map.Entry<String, int[]> entry : availableDates.entrySet()) {
+            validateDateFormat(entry.getKey());
             int[] slots = entry.getValue();
             // ALL_DAY 타입은 빈 배열이어야 함
             if (slots != null && slots.length > 0) {
@@ -174,6 +176,17 @@ public class Meeting extends BaseEntity {
         }
     }
 
+    /**
+     * 날짜 키는 yyyy-MM-dd 형식이어야 함 (저장 시 날짜 오프셋으로 인코딩)
+     */
+    private void validateDateFormat(String date) {
+        try {
+            LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.MEETING_DATE_FORMAT_INVALID);
+        }
+    }
+
     public boolean isConfirmed() {
         return confirmedDate != null;
     }
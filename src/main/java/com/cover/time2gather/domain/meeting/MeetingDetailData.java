@@ -17,7 +17,7 @@ public class MeetingDetailData {
     private final Meeting meeting;
     private final User host;
     private final List<User> participants;
-    private final List<MeetingUserSelection> selections;
+    private final List<MeetingUserSelection> selections; // 상세 조회는 요약 스냅샷을 사용하므로 비어 있음
     private final ScheduleData schedule;
     private final SummaryData summary;
     private final boolean isParticipated; // 현재 사용자의 참여 여부
@@ -32,6 +32,13 @@ public class MeetingDetailData {
         this(meeting, host, participants, selections, schedule, summary, isParticipated, null);
     }
 
+    /**
+     * 참여 여부만 바꾼 사본 (캐시된 결과를 사용자별로 응답할 때 사용)
+     */
+    public MeetingDetailData withParticipated(boolean isParticipated) {
+        return new MeetingDetailData(meeting, host, participants, selections, schedule, summary, isParticipated, locationData);
+    }
+
     /**
      * 날짜/시간별 참여자 정보
      * Map<날짜, Map<시간슬롯, 참여자목록>>
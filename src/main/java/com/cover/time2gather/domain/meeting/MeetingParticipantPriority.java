@@ -0,0 +1,76 @@
+package com.cover.time2gather.domain.meeting;
+
+import com.cover.time2gather.domain.common.BaseEntity;
+import com.cover.time2gather.domain.exception.BusinessException;
+import com.cover.time2gather.domain.exception.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 참여자별 BestSlot 우선순위 (필수 참석 여부 / 가중치)
+ *
+ * 호스트가 지정하며, 행이 없는 참여자는 필수 아님 + 가중치 1로 취급됩니다.
+ * - required: 이 참여자가 빠지는 시간대는 BestSlot 후보에서 제외
+ * - weight: BestSlot 점수 = 범위 전체에 참여 가능한 참여자들의 가중치 합
+ */
+@Entity
+@Table(name = "meeting_participant_priorities",
+        uniqueConstraints = @UniqueConstraint(
+                name = "unique_meeting_user_priority",
+                columnNames = {"meeting_id", "user_id"}
+        ))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingParticipantPriority extends BaseEntity {
+
+    public static final int DEFAULT_WEIGHT = 1;
+    public static final int MIN_WEIGHT = 1;
+    public static final int MAX_WEIGHT = 10;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "required", nullable = false)
+    private boolean required;
+
+    @Column(name = "weight", nullable = false)
+    private int weight;
+
+    public static MeetingParticipantPriority create(Long meetingId, Long userId, boolean required, int weight) {
+        if (meetingId == null) {
+            throw new BusinessException(ErrorCode.MEETING_ID_REQUIRED);
+        }
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.USER_ID_REQUIRED);
+        }
+        validateWeight(weight);
+
+        MeetingParticipantPriority priority = new MeetingParticipantPriority();
+        priority.meetingId = meetingId;
+        priority.userId = userId;
+        priority.required = required;
+        priority.weight = weight;
+        return priority;
+    }
+
+    public void update(boolean required, int weight) {
+        validateWeight(weight);
+        this.required = required;
+        this.weight = weight;
+    }
+
+    private static void validateWeight(int weight) {
+        if (weight < MIN_WEIGHT || weight > MAX_WEIGHT) {
+            throw new BusinessException(ErrorCode.MEETING_PRIORITY_WEIGHT_INVALID, MIN_WEIGHT, MAX_WEIGHT);
+        }
+    }
+}
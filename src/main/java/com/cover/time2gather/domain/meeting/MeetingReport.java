@@ -30,16 +30,31 @@ public class MeetingReport extends BaseEntity {
     @Column(name = "last_attempt_at")
     private LocalDateTime lastAttemptAt;
 
-    public static MeetingReport create(Long meetingId, String summaryText) {
+    /**
+     * 요약 생성에 사용한 프롬프트 템플릿 + 입력의 SHA-256 (입력이 같으면 다시 생성하지 않음)
+     */
+    @Column(name = "input_hash", length = 64)
+    private String inputHash;
+
+    public static MeetingReport create(Long meetingId, String summaryText, String inputHash) {
         MeetingReport report = new MeetingReport();
         report.meetingId = meetingId;
         report.summaryText = summaryText;
+        report.inputHash = inputHash;
         report.retryCount = 0;
         return report;
     }
 
-    public void updateSummaryText(String summaryText) {
+    public void updateSummaryText(String summaryText, String inputHash) {
         this.summaryText = summaryText;
+        this.inputHash = inputHash;
+    }
+
+    /**
+     * 같은 입력으로 생성된 (비어 있지 않은) 레포트인지 여부
+     */
+    public boolean isGeneratedFrom(String inputHash) {
+        return this.inputHash != null && this.inputHash.equals(inputHash) && !this.summaryText.isBlank();
     }
 
     public void incrementRetryCount() {
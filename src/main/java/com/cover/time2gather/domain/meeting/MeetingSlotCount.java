@@ -0,0 +1,145 @@
+package com.cover.time2gather.domain.meeting;
+
+import com.cover.time2gather.domain.common.BaseEntity;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임별 날짜/슬롯 선택 인원 집계
+ *
+ * 사용자 선택이 저장될 때마다 이전 선택과의 차이(delta)만 반영하여 유지됩니다.
+ * 조회 시 모든 참여자의 선택 JSON을 다시 읽지 않고 히트맵 인원수를 제공하기 위한 읽기 모델입니다.
+ */
+@Entity
+@Table(name = "meeting_slot_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingSlotCount extends BaseEntity {
+
+    /**
+     * ALL_DAY 타입(빈 배열) 선택을 집계하는 슬롯 키
+     */
+    public static final int ALL_DAY_SLOT = -1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false, unique = true)
+    private Long meetingId;
+
+    /**
+     * 날짜별 슬롯 선택 인원
+     * TIME 타입: {"2024-02-15": {"18": 3, "19": 2}}
+     * ALL_DAY 타입: {"2024-02-15": {"-1": 4}}
+     */
+    @Type(JsonType.class)
+    @Column(name = "counts", columnDefinition = "json", nullable = false)
+    private Map<String, Map<Integer, Integer>> counts;
+
+    public static MeetingSlotCount create(Long meetingId) {
+        MeetingSlotCount slotCount = new MeetingSlotCount();
+        slotCount.meetingId = meetingId;
+        slotCount.counts = new HashMap<>();
+        return slotCount;
+    }
+
+    /**
+     * 전체 선택 목록으로부터 집계 재구성 (집계 행이 없는 기존 모임용)
+     */
+    public static MeetingSlotCount rebuild(Long meetingId, List<MeetingUserSelection> selections) {
+        MeetingSlotCount slotCount = create(meetingId);
+        for (MeetingUserSelection selection : selections) {
+            accumulate(slotCount.counts, selection.getSelections(), 1);
+        }
+        return slotCount;
+    }
+
+    /**
+     * 한 사용자의 선택 변경분을 집계에 반영
+     *
+     * @param delta computeDelta(변경 전 선택, 변경 후 선택) 결과
+     */
+    public void applySelectionChange(Map<String, Map<Integer, Integer>> delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        applyDelta(delta);
+    }
+
+    /**
+     * 날짜/슬롯 선택 인원 조회
+     */
+    public int getCount(String date, int slotIndex) {
+        return counts.getOrDefault(date, Collections.emptyMap()).getOrDefault(slotIndex, 0);
+    }
+
+    /**
+     * 이전/이후 선택의 차이 계산 (값이 0인 항목은 제외)
+     */
+    public static Map<String, Map<Integer, Integer>> computeDelta(Map<String, int[]> before, Map<String, int[]> after) {
+        Map<String, Map<Integer, Integer>> delta = new HashMap<>();
+        accumulate(delta, before, -1);
+        accumulate(delta, after, 1);
+
+        delta.values().forEach(slotDelta -> slotDelta.values().removeIf(value -> value == 0));
+        delta.values().removeIf(Map::isEmpty);
+        return delta;
+    }
+
+    private static void accumulate(Map<String, Map<Integer, Integer>> delta, Map<String, int[]> selections, int sign) {
+        if (selections == null) {
+            return;
+        }
+
+        for (Map.Entry<String, int[]> entry : selections.entrySet()) {
+            Map<Integer, Integer> slotDelta = delta.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+            int[] slots = entry.getValue();
+
+            // ALL_DAY 타입 (빈 배열)인 경우
+            if (slots == null || slots.length == 0) {
+                slotDelta.merge(ALL_DAY_SLOT, sign, Integer::sum);
+                continue;
+            }
+
+            // 동일 슬롯이 중복 전달되어도 한 번만 집계
+            int[] distinctSlots = Arrays.stream(slots).distinct().toArray();
+            for (int slot : distinctSlots) {
+                slotDelta.merge(slot, sign, Integer::sum);
+            }
+        }
+    }
+
+    private void applyDelta(Map<String, Map<Integer, Integer>> delta) {
+        // JSON 컬럼 변경 감지를 위해 새 맵으로 교체
+        Map<String, Map<Integer, Integer>> updated = new HashMap<>();
+        counts.forEach((date, slotCounts) -> updated.put(date, new HashMap<>(slotCounts)));
+
+        for (Map.Entry<String, Map<Integer, Integer>> dateEntry : delta.entrySet()) {
+            Map<Integer, Integer> slotCounts = updated.computeIfAbsent(dateEntry.getKey(), k -> new HashMap<>());
+            for (Map.Entry<Integer, Integer> slotEntry : dateEntry.getValue().entrySet()) {
+                int value = slotCounts.getOrDefault(slotEntry.getKey(), 0) + slotEntry.getValue();
+                if (value > 0) {
+                    slotCounts.put(slotEntry.getKey(), value);
+                } else {
+                    slotCounts.remove(slotEntry.getKey());
+                }
+            }
+            if (slotCounts.isEmpty()) {
+                updated.remove(dateEntry.getKey());
+            }
+        }
+
+        this.counts = updated;
+    }
+}
@@ -0,0 +1,227 @@
+package com.cover.time2gather.domain.meeting;
+
+import com.cover.time2gather.domain.user.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 모임 요약 스냅샷 내용 (날짜/슬롯별 참여자 + BestSlot)
+ *
+ * 참여자는 userId 오름차순 index로 표현하고, 슬롯/범위별 참여자 집합은 index 비트맵(long[])으로 저장합니다.
+ * User 엔티티는 포함하지 않으므로 조회 시 참여자 목록을 한 번 조회하여 toScheduleData/toSummaryData로 복원합니다.
+ */
+public final class MeetingSummaryContent {
+
+    private static final MeetingSummaryContent EMPTY =
+            new MeetingSummaryContent(new long[0], new TreeMap<>(), List.of());
+
+    private final long[] participantIds;
+    private final Map<String, Map<Integer, long[]>> schedule;
+    private final List<RangeEntry> bestSlots;
+
+    /**
+     * @param participantIds 참여자 ID (오름차순)
+     * @param schedule 날짜 → 슬롯 → 참여자 index 비트맵 (ALL_DAY는 슬롯 -1)
+     * @param bestSlots BestSlot 순위 오름차순
+     */
+    public MeetingSummaryContent(long[] participantIds, Map<String, Map<Integer, long[]>> schedule, List<RangeEntry> bestSlots) {
+        this.participantIds = participantIds;
+        this.schedule = schedule;
+        this.bestSlots = bestSlots;
+    }
+
+    public static MeetingSummaryContent empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 선택 목록과 계산된 BestSlot으로부터 스냅샷 내용 구성
+     */
+    public static MeetingSummaryContent of(List<MeetingUserSelection> selections, MeetingDetailData.SummaryData summary) {
+        TreeSet<Long> sortedIds = new TreeSet<>();
+        for (MeetingUserSelection selection : selections) {
+            sortedIds.add(selection.getUserId());
+        }
+        long[] participantIds = sortedIds.stream().mapToLong(Long::longValue).toArray();
+        int words = wordCount(participantIds.length);
+
+        Map<String, Map<Integer, long[]>> schedule = new TreeMap<>();
+        for (MeetingUserSelection selection : selections) {
+            int index = Arrays.binarySearch(participantIds, selection.getUserId());
+
+            for (Map.Entry<String, int[]> entry : selection.getSelections().entrySet()) {
+                Map<Integer, long[]> slotBitmaps = schedule.computeIfAbsent(entry.getKey(), k -> new TreeMap<>());
+                int[] slots = entry.getValue();
+
+                // ALL_DAY 타입 (빈 배열)인 경우
+                if (slots.length == 0) {
+                    setBit(slotBitmaps.computeIfAbsent(MeetingSlotCount.ALL_DAY_SLOT, k -> new long[words]), index);
+                    continue;
+                }
+                for (int slot : slots) {
+                    setBit(slotBitmaps.computeIfAbsent(slot, k -> new long[words]), index);
+                }
+            }
+        }
+
+        List<RangeEntry> bestSlots = new ArrayList<>(summary.getBestSlots().size());
+        for (MeetingDetailData.BestSlot bestSlot : summary.getBestSlots()) {
+            long[] bitmap = new long[words];
+            for (User user : bestSlot.getParticipants()) {
+                int index = Arrays.binarySearch(participantIds, user.getId());
+                if (index >= 0) {
+                    setBit(bitmap, index);
+                }
+            }
+            bestSlots.add(new RangeEntry(
+                    bestSlot.getDate(),
+                    bestSlot.getStartSlotIndex(),
+                    bestSlot.getEndSlotIndex(),
+                    bestSlot.getCount(),
+                    bitmap
+            ));
+        }
+
+        return new MeetingSummaryContent(participantIds, schedule, bestSlots);
+    }
+
+    public long[] getParticipantIds() {
+        return participantIds;
+    }
+
+    public List<Long> getParticipantIdList() {
+        return Arrays.stream(participantIds).boxed().toList();
+    }
+
+    public int getTotalParticipants() {
+        return participantIds.length;
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(participantIds, userId) >= 0;
+    }
+
+    public Map<String, Map<Integer, long[]>> getSchedule() {
+        return Collections.unmodifiableMap(schedule);
+    }
+
+    public List<RangeEntry> getBestSlots() {
+        return bestSlots;
+    }
+
+    /**
+     * 날짜/시간별 참여자 목록 복원 (userMap에 없는 사용자는 제외)
+     */
+    public MeetingDetailData.ScheduleData toScheduleData(Map<Long, User> userMap) {
+        Map<String, Map<Integer, List<User>>> dateTimeUserMap = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, long[]>> dateEntry : schedule.entrySet()) {
+            Map<Integer, List<User>> slotUserMap = new HashMap<>();
+            for (Map.Entry<Integer, long[]> slotEntry : dateEntry.getValue().entrySet()) {
+                slotUserMap.put(slotEntry.getKey(), resolveUsers(slotEntry.getValue(), userMap));
+            }
+            dateTimeUserMap.put(dateEntry.getKey(), slotUserMap);
+        }
+        return new MeetingDetailData.ScheduleData(dateTimeUserMap);
+    }
+
+    /**
+     * BestSlot 요약 복원 (비율은 전체 참여자 수 기준)
+     */
+    public MeetingDetailData.SummaryData toSummaryData(Map<Long, User> userMap) {
+        int total = participantIds.length;
+        List<MeetingDetailData.BestSlot> result = new ArrayList<>(bestSlots.size());
+        for (RangeEntry entry : bestSlots) {
+            double percentage = total > 0 ? (entry.count() * 100.0 / total) : 0;
+            result.add(new MeetingDetailData.BestSlot(
+                    entry.date(),
+                    entry.startSlotIndex(),
+                    entry.endSlotIndex(),
+                    entry.count(),
+                    percentage,
+                    resolveUsers(entry.participants(), userMap)
+            ));
+        }
+        return new MeetingDetailData.SummaryData(total, result);
+    }
+
+    /**
+     * 참여자별 날짜/슬롯 선택 복원 (ALL_DAY 슬롯 -1은 빈 배열)
+     * 선택 행을 다시 읽지 않고 한 참여자의 변경분만 교체하여 BestSlot을 재계산할 때 사용합니다.
+     *
+     * @return userId → 날짜 → 슬롯 오름차순 배열 (참여자 ID 오름차순)
+     */
+    public Map<Long, Map<String, int[]>> toSelectionsByUser() {
+        Map<Long, Map<String, List<Integer>>> builder = new TreeMap<>();
+        for (long participantId : participantIds) {
+            builder.put(participantId, new TreeMap<>());
+        }
+
+        for (Map.Entry<String, Map<Integer, long[]>> dateEntry : schedule.entrySet()) {
+            for (Map.Entry<Integer, long[]> slotEntry : dateEntry.getValue().entrySet()) {
+                long[] bitmap = slotEntry.getValue();
+                for (int w = 0; w < bitmap.length; w++) {
+                    long word = bitmap[w];
+                    while (word != 0) {
+                        int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                        builder.get(participantIds[index])
+                                .computeIfAbsent(dateEntry.getKey(), k -> new ArrayList<>())
+                                .add(slotEntry.getKey());
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+
+        Map<Long, Map<String, int[]>> result = new TreeMap<>();
+        for (Map.Entry<Long, Map<String, List<Integer>>> userEntry : builder.entrySet()) {
+            Map<String, int[]> selections = new TreeMap<>();
+            for (Map.Entry<String, List<Integer>> dateEntry : userEntry.getValue().entrySet()) {
+                int[] slots = dateEntry.getValue().stream()
+                        .mapToInt(Integer::intValue)
+                        .filter(slot -> slot != MeetingSlotCount.ALL_DAY_SLOT)
+                        .sorted()
+                        .toArray();
+                selections.put(dateEntry.getKey(), slots);
+            }
+            result.put(userEntry.getKey(), selections);
+        }
+        return result;
+    }
+
+    private List<User> resolveUsers(long[] bitmap, Map<Long, User> userMap) {
+        List<User> users = new ArrayList<>();
+        for (int w = 0; w < bitmap.length; w++) {
+            long word = bitmap[w];
+            while (word != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                User user = userMap.get(participantIds[index]);
+                if (user != null) {
+                    users.add(user);
+                }
+                word &= word - 1;
+            }
+        }
+        return users;
+    }
+
+    private static void setBit(long[] bitmap, int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+    public static int wordCount(int participantCount) {
+        return (participantCount + 63) >>> 6;
+    }
+
+    /**
+     * BestSlot 범위 (참여자는 index 비트맵)
+     */
+    public record RangeEntry(String date, int startSlotIndex, int endSlotIndex, int count, long[] participants) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.cover.time2gather.domain.meeting;
+
+import com.cover.time2gather.domain.common.BaseEntity;
+import com.cover.time2gather.infra.meeting.MeetingSummaryCodec;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 모임별 요약 스냅샷 (날짜/슬롯별 참여자 + BestSlot)
+ *
+ * 선택/우선순위가 바뀌는 트랜잭션 안에서 다시 계산되어 저장됩니다.
+ * 모임 상세 조회는 모든 참여자의 선택을 읽어 BestSlot을 재계산하지 않고 이 행 하나와 참여자 목록만 읽습니다.
+ */
+@Entity
+@Table(name = "meeting_summary_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingSummarySnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false, unique = true)
+    private Long meetingId;
+
+    /**
+     * 모임 변경 버전
+     * 스냅샷 재작성과 모임 변경(선택/우선순위/장소/확정) 커밋 시마다 증가하며, 상세 조회 ETag로 사용됩니다.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * MeetingSummaryCodec 포맷의 스냅샷 내용
+     */
+    @Column(name = "payload", columnDefinition = "mediumblob", nullable = false)
+    private byte[] payload;
+
+    public static MeetingSummarySnapshot create(Long meetingId, MeetingSummaryContent content) {
+        MeetingSummarySnapshot snapshot = new MeetingSummarySnapshot();
+        snapshot.meetingId = meetingId;
+        snapshot.version = 1L;
+        snapshot.payload = MeetingSummaryCodec.encode(content);
+        return snapshot;
+    }
+
+    public void rewrite(MeetingSummaryContent content) {
+        this.payload = MeetingSummaryCodec.encode(content);
+        this.version++;
+    }
+
+    /**
+     * 스냅샷 내용 조회 (이전 포맷 버전이면 empty → 호출 측에서 재계산)
+     */
+    public Optional<MeetingSummaryContent> readContent() {
+        if (!MeetingSummaryCodec.isCurrentFormat(payload)) {
+            return Optional.empty();
+        }
+        return Optional.of(MeetingSummaryCodec.decode(payload));
+    }
+}
@@ -6,12 +6,11 @@ import com.cover.time2gather.domain.common.BaseEntity;
 import com.cover.time2gather.domain.exception.BusinessException;
 import com.cover.time2gather.domain.exception.ErrorCode;
 import com.cover.time2gather.domain.meeting.vo.TimeSlot;
-import io.hypersistence.utils.hibernate.type.json.JsonType;
+import com.cover.time2gather.infra.meeting.SlotSelectionConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Type;
 
 import java.util.Map;
 
@@ -58,8 +57,8 @@ public class MeetingUserSelection extends BaseEntity {
      * TIME 타입: {"2024-02-15": [18, 19, 21], "2024-02-16": [22, 23]}
      * ALL_DAY 타입: {"2024-02-15": [], "2024-02-16": []} (빈 배열 = 하루 종일)
      */
-    @Type(JsonType.class)
-    @Column(name = "selections", columnDefinition = "json", nullable = false)
+    @Convert(converter = SlotSelectionConverter.class)
+    @Column(name = "selection_data", columnDefinition = "varbinary(8192)", nullable = false)
     private Map<String, int[]> selections;
 
     /**
@@ -0,0 +1,26 @@
+package com.cover.time2gather.domain.meeting;
+
+import java.util.List;
+
+/**
+ * 같은 참여자들이 모든 슬롯에 가능한 연속 시간 구간
+ *
+ * @param date 날짜 (yyyy-MM-dd)
+ * @param startSlotIndex 시작 슬롯 (ALL_DAY 타입은 -1)
+ * @param endSlotIndex 끝 슬롯 (포함)
+ * @param attendeeIds 구간의 모든 슬롯을 선택한 참여자 ID (오름차순)
+ */
+public record QuorumWindow(
+        String date,
+        int startSlotIndex,
+        int endSlotIndex,
+        List<Long> attendeeIds
+) {
+    public int slotCount() {
+        return endSlotIndex - startSlotIndex + 1;
+    }
+
+    public int attendeeCount() {
+        return attendeeIds.size();
+    }
+}
@@ -0,0 +1,185 @@
+package com.cover.time2gather.domain.meeting;
+
+import com.cover.time2gather.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 레포트 생성 작업 (outbox)
+ *
+ * 선택 저장과 같은 트랜잭션에서 기록되므로 배포/장애로 프로세스가 내려가도 생성 요청이 유실되지 않습니다.
+ * 모임당 한 행만 유지하며, 워커는 SKIP LOCKED로 실행 가능한 행을 나누어 가져간 뒤 lease 시간 동안 소유합니다.
+ *
+ * - debounce: 요청마다 available_at을 quiet-period 뒤로 미루되, 처리되지 않은 첫 요청으로부터 max-delay를 넘기지 않음
+ * - 재시도: 실패 시 시도 횟수에 따른 지수 backoff를 available_at에 기록
+ * - 실행 중 새 요청: request_seq가 바뀌므로 완료 시 행을 지우지 않고 다시 PENDING으로 되돌림
+ */
+@Entity
+@Table(name = "report_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false, unique = true)
+    private Long meetingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    /**
+     * 연속 실패를 포함한 시도 횟수 (가져갈 때 증가, 성공 시 행 삭제 또는 0으로 초기화)
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /**
+     * 생성 요청마다 증가 (실행 중 새 요청이 있었는지 판단)
+     */
+    @Column(name = "request_seq", nullable = false)
+    private Long requestSeq;
+
+    /**
+     * 워커가 가져갈 때의 request_seq
+     */
+    @Column(name = "claimed_seq")
+    private Long claimedSeq;
+
+    /**
+     * 아직 처리되지 않은 첫 요청 시각 (max-delay 기준)
+     */
+    @Column(name = "first_requested_at")
+    private LocalDateTime firstRequestedAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static ReportJob create(Long meetingId, LocalDateTime now, Duration quietPeriod, Duration maxDelay) {
+        ReportJob job = new ReportJob();
+        job.meetingId = meetingId;
+        job.status = ReportJobStatus.PENDING;
+        job.attempts = 0;
+        job.requestSeq = 1L;
+        job.firstRequestedAt = now;
+        job.availableAt = debounce(now, now, quietPeriod, maxDelay);
+        return job;
+    }
+
+    /**
+     * 생성 요청 반영
+     * 재시도 대기 중이면 backoff 시각을 앞당기지 않음 (다음 실행에 이번 변경도 포함됨)
+     */
+    public void request(LocalDateTime now, Duration quietPeriod, Duration maxDelay) {
+        this.requestSeq++;
+
+        if (this.status == ReportJobStatus.FAILED) {
+            this.status = ReportJobStatus.PENDING;
+            this.attempts = 0;
+            this.lastError = null;
+        }
+        if (this.firstRequestedAt == null) {
+            this.firstRequestedAt = now;
+        }
+        if (this.status == ReportJobStatus.PENDING && this.attempts > 0) {
+            return;
+        }
+        this.availableAt = debounce(now, this.firstRequestedAt, quietPeriod, maxDelay);
+    }
+
+    /**
+     * 워커가 작업을 가져감
+     */
+    public void claim(String owner, LocalDateTime now, Duration lease) {
+        this.status = ReportJobStatus.RUNNING;
+        this.attempts++;
+        this.claimedSeq = this.requestSeq;
+        this.firstRequestedAt = null;
+        this.leaseOwner = owner;
+        this.leaseUntil = now.plus(lease);
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return this.status == ReportJobStatus.RUNNING && owner.equals(this.leaseOwner);
+    }
+
+    /**
+     * 실행 중 새 요청이 들어왔는지 여부 (true면 완료 후에도 다시 실행해야 함)
+     */
+    public boolean hasNewRequest() {
+        return !this.requestSeq.equals(this.claimedSeq);
+    }
+
+    /**
+     * 성공했지만 실행 중 새 요청이 있어 다시 대기 (available_at은 새 요청 시 계산된 값 유지)
+     */
+    public void requeue() {
+        this.status = ReportJobStatus.PENDING;
+        this.attempts = 0;
+        this.lastError = null;
+        releaseLease();
+    }
+
+    /**
+     * 실행하지 못하고 반납 (시도 횟수에 포함하지 않으며 바로 다시 가져갈 수 있음)
+     */
+    public void release(LocalDateTime now) {
+        this.status = ReportJobStatus.PENDING;
+        this.attempts--;
+        this.availableAt = now;
+        releaseLease();
+    }
+
+    /**
+     * 실패 기록 (최대 시도 횟수를 넘으면 FAILED, 아니면 backoff 후 재시도)
+     */
+    public void fail(String error, LocalDateTime now, int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        releaseLease();
+
+        if (this.attempts >= maxAttempts) {
+            this.status = ReportJobStatus.FAILED;
+            return;
+        }
+        this.status = ReportJobStatus.PENDING;
+        this.availableAt = now.plus(backoff(this.attempts, baseBackoff, maxBackoff));
+    }
+
+    /**
+     * 시도 횟수에 따른 지수 backoff (base * 2^(attempts-1), 최대 maxBackoff)
+     */
+    static Duration backoff(int attempts, Duration baseBackoff, Duration maxBackoff) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = baseBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static LocalDateTime debounce(LocalDateTime now, LocalDateTime firstRequestedAt,
+                                          Duration quietPeriod, Duration maxDelay) {
+        LocalDateTime quietUntil = now.plus(quietPeriod);
+        LocalDateTime deadline = firstRequestedAt.plus(maxDelay);
+        return quietUntil.isBefore(deadline) ? quietUntil : deadline;
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+}
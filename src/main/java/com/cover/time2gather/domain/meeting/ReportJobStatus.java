@@ -0,0 +1,21 @@
+package com.cover.time2gather.domain.meeting;
+
+/**
+ * 레포트 생성 작업 상태
+ */
+public enum ReportJobStatus {
+    /**
+     * 실행 대기 (available_at 이후 워커가 가져갈 수 있음)
+     */
+    PENDING,
+
+    /**
+     * 워커가 가져가 실행 중 (lease_until이 지나면 다른 워커가 다시 가져갈 수 있음)
+     */
+    RUNNING,
+
+    /**
+     * 최대 시도 횟수 초과로 중단 (다음 생성 요청 시 다시 PENDING)
+     */
+    FAILED
+}
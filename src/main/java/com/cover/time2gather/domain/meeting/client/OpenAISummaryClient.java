@@ -4,51 +4,79 @@ import com.cover.time2gather.domain.meeting.ReportData;
 import com.cover.time2gather.infra.ai.AiChatClient;
 import com.cover.time2gather.util.ReportInputTextBuilder;
 import com.cover.time2gather.util.ResourceLoader;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 import static com.cover.time2gather.domain.meeting.constants.ReportConstants.PROMPT_TEMPLATE_PATH;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OpenAISummaryClient implements ReportSummaryClient {
 
     private final AiChatClient aiChatClient;
+    private final ReportInputTextBuilder.Options inputOptions;
+
+    public OpenAISummaryClient(
+            AiChatClient aiChatClient,
+            @Value("${report.prompt.compact:true}") boolean compact,
+            @Value("${report.prompt.max-section-tokens:1500}") int maxSectionTokens
+    ) {
+        this.aiChatClient = aiChatClient;
+        this.inputOptions = new ReportInputTextBuilder.Options(compact, maxSectionTokens);
+    }
 
     @Override
-    public String generateSummary(ReportData reportData) {
-        try {
-            String instructions = ResourceLoader.loadTextFile(PROMPT_TEMPLATE_PATH);
-            String inputText = ReportInputTextBuilder.build(
-                    reportData.meeting(),
-                    reportData.selections(),
-                    reportData.userMap(),
-                    reportData.locations(),
-                    reportData.locationSelections()
-            );
+    public ReportPrompt buildPrompt(ReportData reportData) {
+        String instructions = ResourceLoader.loadTextFile(PROMPT_TEMPLATE_PATH);
+        String inputText = ReportInputTextBuilder.build(
+                reportData.meeting(),
+                reportData.selections(),
+                reportData.userMap(),
+                reportData.locations(),
+                reportData.locationSelections(),
+                inputOptions
+        );
+        return ReportPrompt.of(reportData.meeting().getId(), instructions, inputText);
+    }
 
+    @Override
+    public String generateSummary(ReportPrompt prompt) {
+        try {
             log.info("Sending summary request via {}. Meeting: {}",
-                    aiChatClient.getProviderName(), reportData.meeting().getId());
+                    aiChatClient.getProviderName(), prompt.meetingId());
             log.debug("Request body - Input length: {}, Instructions length: {}",
-                    inputText.length(), instructions.length());
+                    prompt.inputText().length(), prompt.instructions().length());
 
-            String summary = aiChatClient.chat(instructions, inputText);
+            String summary = aiChatClient.chat(prompt.instructions(), prompt.inputText());
 
             if (summary == null || summary.isBlank()) {
-                log.warn("AI returned empty summary for meeting: {}", reportData.meeting().getId());
+                log.warn("AI returned empty summary for meeting: {}", prompt.meetingId());
                 return "";
             }
 
             log.info("Successfully generated summary for meeting: {}. Summary length: {}",
-                    reportData.meeting().getId(), summary.length());
+                    prompt.meetingId(), summary.length());
             return summary;
 
         } catch (Exception e) {
             log.error("Failed to generate summary for meeting: {}. Error: {}",
-                    reportData.meeting().getId(), e.getMessage(), e);
+                    prompt.meetingId(), e.getMessage(), e);
             return "";
         }
     }
+
+    @Override
+    public String generateSummaryStream(ReportPrompt prompt, Consumer<String> onChunk) {
+        log.info("Sending streaming summary request via {}. Meeting: {}",
+                aiChatClient.getProviderName(), prompt.meetingId());
+
+        String summary = aiChatClient.chatStream(prompt.instructions(), prompt.inputText(), onChunk);
+
+        log.info("Successfully streamed summary for meeting: {}. Summary length: {}",
+                prompt.meetingId(), summary.length());
+        return summary;
+    }
 }
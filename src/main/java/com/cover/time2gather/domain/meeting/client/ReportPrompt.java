@@ -0,0 +1,31 @@
+package com.cover.time2gather.domain.meeting.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * AI 요약 요청 프롬프트 (프롬프트 템플릿 + 모임 입력 텍스트)
+ *
+ * inputHash는 두 값의 SHA-256으로, 이전 레포트를 만든 입력과 같은지 네트워크 호출 전에 비교하는 데 사용합니다.
+ */
+public record ReportPrompt(Long meetingId, String instructions, String inputText, String inputHash) {
+
+    public static ReportPrompt of(Long meetingId, String instructions, String inputText) {
+        return new ReportPrompt(meetingId, instructions, inputText, hash(instructions, inputText));
+    }
+
+    private static String hash(String instructions, String inputText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(instructions.getBytes(StandardCharsets.UTF_8));
+            // 템플릿과 입력의 경계를 구분하여 두 값이 이어 붙여졌을 때 같은 문자열이 되는 경우를 구분
+            digest.update((byte) 0);
+            digest.update(inputText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,7 +2,20 @@ package com.cover.time2gather.domain.meeting.client;
 
 import com.cover.time2gather.domain.meeting.ReportData;
 
+import java.util.function.Consumer;
+
 public interface ReportSummaryClient {
 
-    String generateSummary(ReportData reportData);
+    /**
+     * 요약 요청 프롬프트 구성 (네트워크 호출 없음)
+     */
+    ReportPrompt buildPrompt(ReportData reportData);
+
+    String generateSummary(ReportPrompt prompt);
+
+    /**
+     * 요약을 생성되는 대로 조각 단위로 전달하고 전체 요약을 반환
+     * 실패 시 빈 문자열 대신 예외를 던져 호출 측이 불완전한 요약을 저장하지 않도록 합니다.
+     */
+    String generateSummaryStream(ReportPrompt prompt, Consumer<String> onChunk);
 }
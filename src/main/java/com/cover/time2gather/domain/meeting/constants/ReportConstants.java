@@ -7,6 +7,8 @@ public final class ReportConstants {
     public static final String INPUT_MEETING_HOST = "Meeting Host: ";
     public static final String INPUT_VOTED_PARTICIPANTS = "Voted Participants: ";
     public static final String INPUT_PARTICIPANT_SELECTIONS = "Participant Selections:\n";
+    public static final String INPUT_PARTICIPANT_SELECTIONS_COMPACT =
+            "Participant Selections (HH:mm~HH:mm = 연속으로 선택한 구간, 끝 시각 미포함 / 선택이 같은 참여자는 한 줄에 묶음):\n";
     public static final String UNKNOWN_USER = "Unknown";
 
     public static final int MAX_RETRY_COUNT = 5;
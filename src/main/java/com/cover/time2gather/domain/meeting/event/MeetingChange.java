@@ -0,0 +1,79 @@
+package com.cover.time2gather.domain.meeting.event;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+
+import java.util.Map;
+
+/**
+ * 모임 변경 내용 (실시간 스트림으로 전달되는 delta)
+ */
+public sealed interface MeetingChange {
+
+    /**
+     * SSE 이벤트 이름
+     */
+    String eventName();
+
+    /**
+     * 시간 선택 변경
+     *
+     * @param joined 이번 변경으로 처음 참여한 사용자인지 여부
+     * @param slotCountDelta 날짜/슬롯별 선택 인원 변화량 (ALL_DAY는 슬롯 -1)
+     */
+    record SelectionChanged(Long userId, boolean joined, Map<String, Map<Integer, Integer>> slotCountDelta)
+            implements MeetingChange {
+        @Override
+        public String eventName() {
+            return "selection";
+        }
+    }
+
+    /**
+     * 참여자 필수 여부/가중치 변경 (BestSlot 순위가 바뀔 수 있음)
+     */
+    record PriorityChanged(Long userId) implements MeetingChange {
+        @Override
+        public String eventName() {
+            return "priority";
+        }
+    }
+
+    /**
+     * 장소 후보 추가/삭제 또는 장소 투표 변경
+     *
+     * @param userId 투표한 사용자 (후보 추가/삭제는 호스트)
+     */
+    record LocationChanged(Long userId) implements MeetingChange {
+        @Override
+        public String eventName() {
+            return "location";
+        }
+    }
+
+    /**
+     * 일정/장소 확정 상태 변경
+     */
+    record ConfirmationChanged(
+            boolean confirmed,
+            String confirmedDate,
+            Integer confirmedSlotIndex,
+            boolean locationConfirmed,
+            Long confirmedLocationId
+    ) implements MeetingChange {
+
+        public static ConfirmationChanged of(Meeting meeting) {
+            return new ConfirmationChanged(
+                    meeting.isConfirmed(),
+                    meeting.getConfirmedDate() != null ? meeting.getConfirmedDate().toString() : null,
+                    meeting.getConfirmedSlotIndex(),
+                    meeting.isLocationConfirmed(),
+                    meeting.getConfirmedLocationId()
+            );
+        }
+
+        @Override
+        public String eventName() {
+            return "confirmation";
+        }
+    }
+}
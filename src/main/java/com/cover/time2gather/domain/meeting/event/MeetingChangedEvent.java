@@ -0,0 +1,14 @@
+package com.cover.time2gather.domain.meeting.event;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+
+/**
+ * 모임 상세 조회 결과가 바뀌는 변경 (선택, 우선순위, 장소, 확정)
+ * 커밋 이후 상세 조회 캐시 무효화와 실시간 스트림 전송에 사용
+ */
+public record MeetingChangedEvent(Long meetingId, String meetingCode, MeetingChange change) {
+
+    public static MeetingChangedEvent of(Meeting meeting, MeetingChange change) {
+        return new MeetingChangedEvent(meeting.getId(), meeting.getMeetingCode(), change);
+    }
+}
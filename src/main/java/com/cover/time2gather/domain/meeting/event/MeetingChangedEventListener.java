@@ -0,0 +1,23 @@
+package com.cover.time2gather.domain.meeting.event;
+
+import com.cover.time2gather.domain.meeting.service.MeetingSummarySnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 변경 이벤트 리스너
+ * - 커밋 직전: 같은 트랜잭션에서 모임 변경 버전(ETag, 상세 조회 캐시 키) 증가
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingChangedEventListener {
+
+    private final MeetingSummarySnapshotService summarySnapshotService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void increaseChangeVersion(MeetingChangedEvent event) {
+        summarySnapshotService.increaseVersion(event.meetingId());
+    }
+}
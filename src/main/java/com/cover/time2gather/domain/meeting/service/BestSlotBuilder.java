@@ -2,9 +2,14 @@ package com.cover.time2gather.domain.meeting.service;
 
 import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
 import com.cover.time2gather.domain.meeting.MeetingUserSelection;
 import com.cover.time2gather.domain.meeting.SelectionType;
 import com.cover.time2gather.domain.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -14,6 +19,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -25,12 +33,40 @@ import java.util.stream.Collectors;
  * - 2개 이상 연속된 슬롯은 하나로 병합
  * - 병합된 슬롯의 count는 모든 슬롯에 참여한 인원만 카운트 (엄격)
  * - 각 BestSlot에 참여자 명단 포함
+ *
+ * 참여자 우선순위 (MeetingParticipantPriority):
+ * - 필수 참석자가 빠지는 범위/날짜는 제외
+ * - 순위는 가중치 합(score) 기준, 우선순위가 없으면 score = count
+ *
+ * 병렬 평가:
+ * - 참여자 수 × 슬롯 수가 임계값 이상이면 날짜별 Top3 탐색을 전용 ForkJoinPool에서 병렬 수행
+ * - 날짜별 결과는 순위 기준 힙으로 병합하므로 실행 순서와 무관하게 순차 평가와 결과가 동일
  */
+@Slf4j
 @Component
 public class BestSlotBuilder {
 
     private static final int TOP_N = 3;
 
+    private final ForkJoinPool bestSlotPool;
+    private final long parallelThreshold;
+
+    /**
+     * 순차 평가 전용 빌더
+     */
+    public BestSlotBuilder() {
+        this(null, Long.MAX_VALUE);
+    }
+
+    @Autowired
+    public BestSlotBuilder(
+            @Qualifier("bestSlotForkJoinPool") ForkJoinPool bestSlotPool,
+            @Value("${meeting.best-slot.parallel-threshold:100000}") long parallelThreshold
+    ) {
+        this.bestSlotPool = bestSlotPool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
     /**
      * 요약 데이터 생성 (연속 슬롯 병합 적용)
      */
@@ -39,203 +75,135 @@ public class BestSlotBuilder {
             List<MeetingUserSelection> selections,
             Map<Long, User> userMap,
             int totalParticipants
+    ) {
+        return buildSummaryData(meeting, selections, userMap, totalParticipants, List.of());
+    }
+
+    /**
+     * 요약 데이터 생성 (참여자 필수 여부/가중치 반영)
+     */
+    public MeetingDetailData.SummaryData buildSummaryData(
+            Meeting meeting,
+            List<MeetingUserSelection> selections,
+            Map<Long, User> userMap,
+            int totalParticipants,
+            List<MeetingParticipantPriority> priorities
     ) {
         boolean isAllDay = meeting.getSelectionType() == SelectionType.ALL_DAY;
 
         if (isAllDay) {
-            return buildAllDaySummary(selections, userMap, totalParticipants);
+            return buildAllDaySummary(selections, userMap, totalParticipants, priorities);
         }
 
-        return buildTimeSummary(selections, userMap, totalParticipants);
+        return buildTimeSummary(selections, userMap, totalParticipants, priorities);
     }
 
     /**
      * TIME 타입: 모든 연속 범위 조합 평가 후 겹치지 않는 Top3 선택
      * 
-     * 1. 모든 가능한 연속 범위 조합을 생성하고 공통 참여자 계산 (Incremental intersection)
-     * 2. count 기준 정렬 후, 같은 날짜에서 겹치는 범위는 제외하고 Top3 선택
+     * 1. 참여자별 dense index 기반 날짜×슬롯 비트맵 생성 (SlotAvailabilityMatrix)
+     * 2. 날짜별로 모든 연속 범위의 공통 참여자를 Incremental bitmap AND로 계산하면서
+     *    같은 날짜에서 겹치지 않는 Top3를 스트리밍 선택 (TopRangeSelector)
+     * 3. 날짜별 후보를 크기 3의 힙으로 병합 후, 최종 Top3에 대해서만 참여자 명단 생성
+     * 
+     * 정렬: score 내림차순 → count 내림차순 → 범위 넓이 내림차순 → 날짜 오름차순 → startSlotIndex 오름차순
+     * (우선순위가 있으면 ParticipantPriorityScorer로 필수 참석자 필터 + 가중치 점수 적용)
      * 
-     * 시간복잡도: O(D × S² × U) - Incremental intersection 최적화 적용
-     * - D: 날짜 수, S: 슬롯 수, U: 사용자 수
+     * 시간복잡도: O(K × D × S² × U/64), 메모리: O(K) - 전체 범위 목록을 만들지 않음
+     * - D: 날짜 수, S: 슬롯 수, U: 사용자 수, K: 3
      */
     private MeetingDetailData.SummaryData buildTimeSummary(
             List<MeetingUserSelection> selections,
             Map<Long, User> userMap,
-            int totalParticipants
+            int totalParticipants,
+            List<MeetingParticipantPriority> priorities
     ) {
-        // 1. 날짜-슬롯별 참여자 Set 생성
-        Map<String, Map<Integer, Set<Long>>> dateSlotUsersMap = buildDateSlotUsersMap(selections);
-
-        // 2. 모든 연속 범위 조합 평가 (Incremental intersection으로 O(S² × U) 달성)
-        List<MeetingDetailData.BestSlot> allSlots = new ArrayList<>();
-
-        for (Map.Entry<String, Map<Integer, Set<Long>>> dateEntry : dateSlotUsersMap.entrySet()) {
-            String date = dateEntry.getKey();
-            Map<Integer, Set<Long>> slotUsersMap = dateEntry.getValue();
-
-            // 해당 날짜의 모든 연속 범위에 대해 BestSlot 생성
-            List<MeetingDetailData.BestSlot> dateSlots = generateSlotsWithIncrementalIntersection(
-                    date, slotUsersMap, userMap, totalParticipants);
-            allSlots.addAll(dateSlots);
-        }
-
-        // 3. 정렬: count 내림차순 → 범위 넓이 내림차순 → 날짜 오름차순 → startSlotIndex 오름차순
-        List<MeetingDetailData.BestSlot> sortedSlots = allSlots.stream()
-                .sorted(Comparator
-                        .<MeetingDetailData.BestSlot>comparingInt(MeetingDetailData.BestSlot::getCount).reversed()
-                        .thenComparing(Comparator.<MeetingDetailData.BestSlot>comparingInt(s -> s.getEndSlotIndex() - s.getStartSlotIndex()).reversed())
-                        .thenComparing(MeetingDetailData.BestSlot::getDate)
-                        .thenComparingInt(MeetingDetailData.BestSlot::getStartSlotIndex))
+        // 1. 날짜-슬롯별 참여자 비트맵 생성
+        SlotAvailabilityMatrix matrix = SlotAvailabilityMatrix.of(selections, userMap.keySet());
+        RangeScorer scorer = priorities.isEmpty()
+                ? RangeScorer.COUNT
+                : ParticipantPriorityScorer.of(matrix, priorities);
+
+        // 2. 겹치지 않는 Top3 범위 선택
+        List<TopRangeSelector.RangeCandidate> topRanges = selectTopRanges(matrix, scorer);
+
+        // 3. 선택된 범위만 참여자 명단으로 변환
+        List<MeetingDetailData.BestSlot> bestSlots = topRanges.stream()
+                .map(range -> toBestSlot(range, matrix, userMap, totalParticipants))
                 .collect(Collectors.toList());
 
-        // 4. Top3 선택 (같은 날짜에서 겹치는 범위는 제외)
-        List<MeetingDetailData.BestSlot> bestSlots = selectNonOverlappingTopN(sortedSlots, TOP_N);
-
         return new MeetingDetailData.SummaryData(totalParticipants, bestSlots);
     }
 
     /**
-     * Incremental intersection을 사용하여 모든 연속 범위의 BestSlot 생성
-     * 
-     * 기존 방식: generateAllConsecutiveRanges() + findCommonUsers() → O(S³ × U)
-     * 최적화 방식: 확장하면서 교집합 누적 유지 → O(S² × U)
-     * 
-     * @param date 날짜
-     * @param slotUsersMap 슬롯별 참여자 맵
-     * @param userMap 사용자 ID → User 맵
-     * @param totalParticipants 전체 참여자 수
-     * @return 해당 날짜의 모든 BestSlot 리스트
+     * 작업량(참여자 수 × 슬롯 수)에 따라 순차/병렬 Top3 선택
      */
-    private List<MeetingDetailData.BestSlot> generateSlotsWithIncrementalIntersection(
-            String date,
-            Map<Integer, Set<Long>> slotUsersMap,
-            Map<Long, User> userMap,
-            int totalParticipants
-    ) {
-        if (slotUsersMap.isEmpty()) {
-            return List.of();
+    private List<TopRangeSelector.RangeCandidate> selectTopRanges(SlotAvailabilityMatrix matrix, RangeScorer scorer) {
+        if (!shouldParallelize(matrix)) {
+            return TopRangeSelector.selectTopRanges(matrix, TOP_N, scorer);
         }
 
-        List<Integer> sortedSlots = slotUsersMap.keySet().stream()
-                .sorted()
-                .collect(Collectors.toList());
-
-        List<MeetingDetailData.BestSlot> result = new ArrayList<>();
-
-        // 각 시작점에서 연속 확장하면서 교집합 누적
-        for (int i = 0; i < sortedSlots.size(); i++) {
-            int start = sortedSlots.get(i);
-            Set<Long> commonUserIds = new HashSet<>(slotUsersMap.get(start));
-            int end = start;
-
-            // 단일 슬롯 (start == end) 추가
-            addBestSlotIfValid(result, date, start, end, commonUserIds, userMap, totalParticipants);
-
-            // 연속된 슬롯으로 확장하면서 교집합 유지
-            for (int j = i + 1; j < sortedSlots.size(); j++) {
-                int next = sortedSlots.get(j);
-
-                if (next != end + 1) {
-                    // 연속이 끊김 → 이 시작점에서의 확장 종료
-                    break;
-                }
+        try {
+            return selectTopRangesInParallel(matrix, scorer);
+        } catch (RejectedExecutionException e) {
+            log.warn("BestSlot parallel evaluation rejected. Falling back to sequential evaluation.", e);
+            return TopRangeSelector.selectTopRanges(matrix, TOP_N, scorer);
+        }
+    }
 
-                // 연속됨 → 확장하면서 교집합 갱신
-                end = next;
-                Set<Long> nextSlotUsers = slotUsersMap.get(next);
-                commonUserIds.retainAll(nextSlotUsers);
+    private boolean shouldParallelize(SlotAvailabilityMatrix matrix) {
+        if (bestSlotPool == null || matrix.getDates().size() < 2) {
+            return false;
+        }
+        long workload = (long) matrix.getUserCount() * matrix.getTotalSlotCount();
+        return workload >= parallelThreshold;
+    }
 
-                // 교집합이 비어있으면 더 확장해도 의미 없음 (Early termination)
-                if (commonUserIds.isEmpty()) {
-                    break;
-                }
+    /**
+     * 날짜별 Top3 탐색을 ForkJoinPool에 분배한 뒤 결정적 병합
+     */
+    private List<TopRangeSelector.RangeCandidate> selectTopRangesInParallel(
+            SlotAvailabilityMatrix matrix,
+            RangeScorer scorer
+    ) {
+        List<ForkJoinTask<List<TopRangeSelector.RangeCandidate>>> tasks = new ArrayList<>();
+        for (String date : matrix.getDates()) {
+            tasks.add(bestSlotPool.submit(() -> TopRangeSelector.selectDateTopRanges(matrix, date, TOP_N, scorer)));
+        }
 
-                // 확장된 범위 추가
-                addBestSlotIfValid(result, date, start, end, commonUserIds, userMap, totalParticipants);
-            }
+        List<List<TopRangeSelector.RangeCandidate>> perDate = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<List<TopRangeSelector.RangeCandidate>> task : tasks) {
+            perDate.add(task.join());
         }
 
-        return result;
+        return TopRangeSelector.mergeTopRanges(perDate, TOP_N);
     }
 
     /**
-     * 유효한 BestSlot을 결과 리스트에 추가
+     * 선택된 범위 → BestSlot 변환 (범위 전체를 선택한 참여자 명단 포함)
      */
-    private void addBestSlotIfValid(
-            List<MeetingDetailData.BestSlot> result,
-            String date,
-            int start,
-            int end,
-            Set<Long> commonUserIds,
+    private MeetingDetailData.BestSlot toBestSlot(
+            TopRangeSelector.RangeCandidate range,
+            SlotAvailabilityMatrix matrix,
             Map<Long, User> userMap,
             int totalParticipants
     ) {
-        if (commonUserIds.isEmpty()) {
-            return;
-        }
-
-        // Set을 복사하여 사용 (이후 retainAll로 원본이 변경되므로)
-        List<User> participants = commonUserIds.stream()
+        long[] common = matrix.intersect(range.date(), range.startPosition(), range.endPosition());
+        List<User> participants = matrix.resolveUserIds(common).stream()
                 .map(userMap::get)
-                .filter(u -> u != null)
                 .collect(Collectors.toList());
 
-        int count = participants.size();
-        if (count == 0) {
-            return;
-        }
-
+        int count = range.count();
         double percentage = totalParticipants > 0 ? (count * 100.0 / totalParticipants) : 0;
 
-        result.add(new MeetingDetailData.BestSlot(
-                date,
-                start,
-                end,
+        return new MeetingDetailData.BestSlot(
+                range.date(),
+                range.startSlot(),
+                range.endSlot(),
                 count,
                 percentage,
                 participants
-        ));
-    }
-
-    /**
-     * 같은 날짜에서 겹치는 범위를 제외하고 Top N 선택
-     */
-    private List<MeetingDetailData.BestSlot> selectNonOverlappingTopN(
-            List<MeetingDetailData.BestSlot> sortedSlots, 
-            int n
-    ) {
-        List<MeetingDetailData.BestSlot> result = new ArrayList<>();
-        // 날짜별로 선택된 범위 추적
-        Map<String, List<SlotRange>> selectedRangesByDate = new HashMap<>();
-
-        for (MeetingDetailData.BestSlot slot : sortedSlots) {
-            if (result.size() >= n) {
-                break;
-            }
-
-            String date = slot.getDate();
-            SlotRange currentRange = new SlotRange(slot.getStartSlotIndex(), slot.getEndSlotIndex());
-
-            // 해당 날짜에서 이미 선택된 범위와 겹치는지 확인
-            List<SlotRange> selectedRanges = selectedRangesByDate.getOrDefault(date, new ArrayList<>());
-            boolean overlaps = selectedRanges.stream()
-                    .anyMatch(selected -> rangesOverlap(selected, currentRange));
-
-            if (!overlaps) {
-                result.add(slot);
-                selectedRanges.add(currentRange);
-                selectedRangesByDate.put(date, selectedRanges);
-            }
-        }
-
-        return result;
-    }
-
-    /**
-     * 두 범위가 겹치는지 확인
-     */
-    private boolean rangesOverlap(SlotRange a, SlotRange b) {
-        return a.start <= b.end && b.start <= a.end;
+        );
     }
 
     /**
@@ -244,7 +212,8 @@ public class BestSlotBuilder {
     private MeetingDetailData.SummaryData buildAllDaySummary(
             List<MeetingUserSelection> selections,
             Map<Long, User> userMap,
-            int totalParticipants
+            int totalParticipants,
+            List<MeetingParticipantPriority> priorities
     ) {
         // 날짜별 참여자 수집
         Map<String, Set<Long>> dateUsersMap = new HashMap<>();
@@ -256,6 +225,15 @@ public class BestSlotBuilder {
             }
         }
 
+        // 참여자 우선순위 (필수 참석자 / 가중치)
+        Set<Long> requiredUserIds = priorities.stream()
+                .filter(MeetingParticipantPriority::isRequired)
+                .map(MeetingParticipantPriority::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, Integer> weightMap = priorities.stream()
+                .collect(Collectors.toMap(MeetingParticipantPriority::getUserId, MeetingParticipantPriority::getWeight));
+        Map<String, Long> dateScores = new HashMap<>();
+
         // BestSlot 생성
         List<MeetingDetailData.BestSlot> allSlots = new ArrayList<>();
 
@@ -263,6 +241,11 @@ public class BestSlotBuilder {
             String date = entry.getKey();
             Set<Long> userIds = entry.getValue();
 
+            // 필수 참석자가 빠지는 날짜는 제외
+            if (!userIds.containsAll(requiredUserIds)) {
+                continue;
+            }
+
             List<User> participants = userIds.stream()
                     .map(userMap::get)
                     .filter(u -> u != null)
@@ -271,6 +254,11 @@ public class BestSlotBuilder {
             int count = participants.size();
             double percentage = totalParticipants > 0 ? (count * 100.0 / totalParticipants) : 0;
 
+            dateScores.put(date, userIds.stream()
+                    .filter(userMap::containsKey)
+                    .mapToLong(userId -> weightMap.getOrDefault(userId, MeetingParticipantPriority.DEFAULT_WEIGHT))
+                    .sum());
+
             // ALL_DAY는 slotIndex = -1
             allSlots.add(new MeetingDetailData.BestSlot(
                     date,
@@ -285,53 +273,12 @@ public class BestSlotBuilder {
         // 정렬 및 Top3 선택
         List<MeetingDetailData.BestSlot> bestSlots = allSlots.stream()
                 .sorted(Comparator
-                        .comparingInt(MeetingDetailData.BestSlot::getCount).reversed()
+                        .comparingLong((MeetingDetailData.BestSlot slot) -> dateScores.get(slot.getDate())).reversed()
+                        .thenComparing(Comparator.comparingInt(MeetingDetailData.BestSlot::getCount).reversed())
                         .thenComparing(MeetingDetailData.BestSlot::getDate))
                 .limit(TOP_N)
                 .collect(Collectors.toList());
 
         return new MeetingDetailData.SummaryData(totalParticipants, bestSlots);
     }
-
-    /**
-     * 날짜-슬롯별 참여자 ID Set 생성
-     */
-    private Map<String, Map<Integer, Set<Long>>> buildDateSlotUsersMap(
-            List<MeetingUserSelection> selections
-    ) {
-        Map<String, Map<Integer, Set<Long>>> result = new HashMap<>();
-
-        for (MeetingUserSelection selection : selections) {
-            Long userId = selection.getUserId();
-            Map<String, int[]> userSelections = selection.getSelections();
-
-            for (Map.Entry<String, int[]> entry : userSelections.entrySet()) {
-                String date = entry.getKey();
-                int[] slots = entry.getValue();
-
-                result.computeIfAbsent(date, k -> new HashMap<>());
-                Map<Integer, Set<Long>> slotUsersMap = result.get(date);
-
-                for (int slot : slots) {
-                    slotUsersMap.computeIfAbsent(slot, k -> new HashSet<>())
-                            .add(userId);
-                }
-            }
-        }
-
-        return result;
-    }
-
-    /**
-     * 슬롯 범위 (시작~끝)
-     */
-    private static class SlotRange {
-        final int start;
-        final int end;
-
-        SlotRange(int start, int end) {
-            this.start = start;
-            this.end = end;
-        }
-    }
 }
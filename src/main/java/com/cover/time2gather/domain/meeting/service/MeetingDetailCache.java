@@ -0,0 +1,55 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 모임 상세 조회 결과 캐시 (meetingCode + 모임 변경 버전)
+ *
+ * 키의 버전은 요청이 DB에서 읽은 모임 변경 버전(요약 스냅샷 version, 상세 조회 ETag와 같은 값)입니다.
+ * 변경이 커밋되면 DB 버전이 증가하므로 이후 요청은 새 키로 조회하고, 이전 버전 결과는 만료/용량 초과로 제거됩니다.
+ * 따라서 별도 무효화 없이 다른 인스턴스의 변경도 바로 반영되며, ETag와 응답 본문이 서로 다른 버전에서 오지 않습니다.
+ *
+ * - 캐시 값은 사용자와 무관한 결과 (isParticipated는 조회 시 계산)
+ * - hit/miss/eviction 지표: cache.gets, cache.evictions (cache=meetingDetail)
+ */
+@Component
+public class MeetingDetailCache {
+
+    private static final String CACHE_NAME = "meetingDetail";
+
+    private final Cache<Key, MeetingDetailData> cache;
+
+    public MeetingDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${meeting.detail-cache.maximum-size:10000}") long maximumSize,
+            @Value("${meeting.detail-cache.expire-after-write:60s}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 해당 버전의 캐시 결과 조회 (없으면 loader로 계산하여 저장)
+     *
+     * @param version 요청이 읽은 모임 변경 버전
+     */
+    public MeetingDetailData get(String meetingCode, long version, Supplier<MeetingDetailData> loader) {
+        return cache.get(new Key(meetingCode, version), k -> loader.get());
+    }
+
+    private record Key(String meetingCode, long version) {
+    }
+}
@@ -5,10 +5,13 @@ import com.cover.time2gather.domain.exception.ErrorCode;
 import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingLocation;
 import com.cover.time2gather.domain.meeting.MeetingLocationSelection;
+import com.cover.time2gather.domain.meeting.event.MeetingChange;
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
 import com.cover.time2gather.infra.meeting.MeetingLocationRepository;
 import com.cover.time2gather.infra.meeting.MeetingLocationSelectionRepository;
 import com.cover.time2gather.infra.meeting.MeetingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,7 @@ public class MeetingLocationService {
     private final MeetingRepository meetingRepository;
     private final MeetingLocationRepository locationRepository;
     private final MeetingLocationSelectionRepository locationSelectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MeetingLocation addLocation(String meetingCode, Long userId, String locationName) {
@@ -51,7 +55,9 @@ public class MeetingLocationService {
         int nextOrder = currentCount;
 
         MeetingLocation location = MeetingLocation.create(meeting.getId(), locationName, nextOrder);
-        return locationRepository.save(location);
+        MeetingLocation savedLocation = locationRepository.save(location);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, new MeetingChange.LocationChanged(userId)));
+        return savedLocation;
     }
 
     @Transactional
@@ -87,6 +93,7 @@ public class MeetingLocationService {
 
         // displayOrder 재정렬
         reorderLocations(meeting.getId());
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, new MeetingChange.LocationChanged(userId)));
     }
 
     public List<MeetingLocation> selectLocationsByMeetingCode(String meetingCode) {
@@ -107,6 +114,7 @@ public class MeetingLocationService {
 
         // 기존 투표 삭제
         locationSelectionRepository.deleteByMeetingIdAndUserId(meeting.getId(), userId);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, new MeetingChange.LocationChanged(userId)));
 
         // 빈 배열이면 투표 스킵 (기존 투표만 삭제)
         if (locationIds == null || locationIds.isEmpty()) {
@@ -181,6 +189,7 @@ public class MeetingLocationService {
         // 장소 확정
         meeting.confirmLocation(locationId);
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChange.ConfirmationChanged.of(meeting)));
     }
 
     /**
@@ -204,6 +213,7 @@ public class MeetingLocationService {
         // 확정 취소
         meeting.cancelLocationConfirmation();
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChange.ConfirmationChanged.of(meeting)));
     }
 
     private Meeting getMeetingByCode(String meetingCode) {
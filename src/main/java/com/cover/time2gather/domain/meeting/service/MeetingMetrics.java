@@ -0,0 +1,77 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 처리 단계별 시간 지표 (모임 크기 구간 태그 포함)
+ *
+ * - meeting.detail{stage=load|mapping, size}: 모임 상세 조회 (load는 캐시 miss 시 DB 조회, mapping은 응답 데이터 구성)
+ * - meeting.best_slot{size}: BestSlotBuilder 계산 (스냅샷 재작성 또는 스냅샷이 없을 때)
+ * - meeting.selection.upsert{size}: 참여자 선택 저장
+ * - report.generation{stage=aggregate|llm|save, size}: 레포트 생성 단계 (aggregate는 프롬프트 구성 포함, 성공한 단계만 기록)
+ *
+ * size는 참여자 수 구간입니다. (0, 1-10, 11-50, 51-200, 201+)
+ * 모든 지표는 percentile histogram을 내보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingMetrics {
+
+    public static final String DETAIL_LOAD = "load";
+    public static final String DETAIL_MAPPING = "mapping";
+    public static final String REPORT_AGGREGATE = "aggregate";
+    public static final String REPORT_LLM = "llm";
+    public static final String REPORT_SAVE = "save";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordDetailStage(String stage, int participantCount, long elapsedNanos) {
+        record("meeting.detail", stage, participantCount, elapsedNanos);
+    }
+
+    public void recordBestSlot(int participantCount, long elapsedNanos) {
+        record("meeting.best_slot", null, participantCount, elapsedNanos);
+    }
+
+    public void recordSelectionUpsert(int participantCount, long elapsedNanos) {
+        record("meeting.selection.upsert", null, participantCount, elapsedNanos);
+    }
+
+    public void recordReportStage(String stage, int participantCount, long elapsedNanos) {
+        record("report.generation", stage, participantCount, elapsedNanos);
+    }
+
+    /**
+     * 참여자 수 구간 (태그 값 수를 고정하기 위해 구간으로 묶음)
+     */
+    static String sizeBucket(int participantCount) {
+        if (participantCount <= 0) {
+            return "0";
+        }
+        if (participantCount <= 10) {
+            return "1-10";
+        }
+        if (participantCount <= 50) {
+            return "11-50";
+        }
+        if (participantCount <= 200) {
+            return "51-200";
+        }
+        return "201+";
+    }
+
+    private void record(String name, String stage, int participantCount, long elapsedNanos) {
+        Timer.Builder builder = Timer.builder(name)
+                .tag("size", sizeBucket(participantCount))
+                .publishPercentileHistogram();
+        if (stage != null) {
+            builder.tag("stage", stage);
+        }
+        builder.register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -4,11 +4,17 @@ import com.cover.time2gather.domain.exception.BusinessException;
 import com.cover.time2gather.domain.exception.ErrorCode;
 import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingReport;
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
 import com.cover.time2gather.domain.meeting.MeetingUserSelection;
-import com.cover.time2gather.domain.meeting.event.ReportGenerateEvent;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.event.MeetingChange;
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
 import com.cover.time2gather.domain.user.UserRepository;
 import com.cover.time2gather.infra.meeting.MeetingReportRepository;
 import com.cover.time2gather.infra.meeting.MeetingRepository;
+import com.cover.time2gather.infra.meeting.MeetingSlotCountRepository;
 import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +35,11 @@ public class MeetingSelectionService {
     private final UserRepository userRepository;
     private final MeetingRepository meetingRepository;
     private final MeetingReportRepository reportRepository;
+    private final MeetingSlotCountRepository slotCountRepository;
+    private final MeetingSummarySnapshotService summarySnapshotService;
+    private final ReportJobService reportJobService;
     private final ApplicationEventPublisher eventPublisher;
+    private final MeetingMetrics meetingMetrics;
 
     public Map<String, int[]> getUserSelections(Long meetingId, Long userId) {
         return selectionRepository.findByMeetingIdAndUserId(meetingId, userId)
@@ -37,13 +47,28 @@ public class MeetingSelectionService {
                 .orElse(Collections.emptyMap());
     }
 
+    /**
+     * 시간을 선택한 참여자인지 여부
+     */
+    public boolean isParticipant(Long meetingId, Long userId) {
+        return selectionRepository.existsByMeetingIdAndUserId(meetingId, userId);
+    }
+
+    /**
+     * 사용자 선택 저장
+     *
+     * 선택을 읽거나 쓰기 전에 모임 행을 잠가 같은 모임의 선택 변경을 직렬화합니다.
+     * 잠금 순서: 모임 → 사용자 선택 → 선택 인원 집계 → 요약 스냅샷
+     */
     @Transactional
     public void upsertUserSelections(Long meetingId, Long userId, Map<String, int[]> selections) {
+        long startNanos = System.nanoTime();
+
         if (!userRepository.existsById(userId)) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
-        Meeting meeting = meetingRepository.findById(meetingId)
+        Meeting meeting = meetingRepository.selectByIdForUpdate(meetingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
 
         if (meeting.isConfirmed()) {
@@ -53,9 +78,12 @@ public class MeetingSelectionService {
         validateSelections(meeting, selections);
 
         MeetingUserSelection selection = selectionRepository
-                .findByMeetingIdAndUserId(meetingId, userId)
+                .selectByMeetingIdAndUserIdForUpdate(meetingId, userId)
                 .orElse(null);
 
+        Map<String, int[]> previousSelections;
+        boolean joined = selection == null;
+
         if (selection == null) {
             // Meeting의 selectionType과 intervalMinutes를 전달
             selection = MeetingUserSelection.create(
@@ -66,15 +94,58 @@ public class MeetingSelectionService {
                     selections
             );
             selectionRepository.save(selection);
+            previousSelections = Collections.emptyMap();
         } else {
+            previousSelections = selection.getSelections();
             selection.updateSelections(selections);
         }
 
-        try {
-            eventPublisher.publishEvent(ReportGenerateEvent.of(meetingId));
-        } catch (Exception e) {
-            log.error("Failed to publish report generate event. meetingId={}", meetingId, e);
+        Map<String, Map<Integer, Integer>> slotCountDelta = MeetingSlotCount.computeDelta(previousSelections, selections);
+        updateSlotCounts(meetingId, slotCountDelta);
+        MeetingSummaryContent content = summarySnapshotService.applySelection(meeting, selection);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(
+                meeting, new MeetingChange.SelectionChanged(userId, joined, slotCountDelta)));
+        reportJobService.request(meetingId);
+
+        meetingMetrics.recordSelectionUpsert(content.getParticipantIdList().size(), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 날짜/슬롯 선택 인원 집계에 이번 변경분(delta)만 반영
+     * 집계 행이 없는 기존 모임은 전체 선택으로부터 재구성 (방금 저장한 선택 포함)
+     * 모임 잠금 안에서 호출되므로 행 생성이 동시에 일어나지 않으며, 재구성은 최신 커밋 기준 잠금 읽기로 수행합니다.
+     */
+    private void updateSlotCounts(Long meetingId, Map<String, Map<Integer, Integer>> delta) {
+        slotCountRepository.selectByMeetingIdForUpdate(meetingId)
+                .ifPresentOrElse(
+                        slotCount -> slotCount.applySelectionChange(delta),
+                        () -> slotCountRepository.save(
+                                MeetingSlotCount.rebuild(meetingId, selectionRepository.selectAllByMeetingIdForShare(meetingId)))
+                );
+    }
+
+    /**
+     * 날짜/슬롯별 선택 인원 조회 (참여자 선택 JSON을 모두 읽지 않고 집계 행 하나로 응답)
+     * 집계 행이 없는 기존 모임은 전체 선택으로부터 계산
+     */
+    public Map<String, Map<Integer, Integer>> getSlotCounts(Long meetingId) {
+        return slotCountRepository.findByMeetingId(meetingId)
+                .orElseGet(() -> MeetingSlotCount.rebuild(meetingId, selectionRepository.findAllByMeetingId(meetingId)))
+                .getCounts();
+    }
+
+    /**
+     * 같은 참여자 minAttendees명 이상이 minSlots개 이상 연속 슬롯 동안 모두 가능한 구간 조회
+     * 참여자별 가용성은 요약 스냅샷의 비트맵을 사용하므로 선택 행을 다시 읽지 않음
+     * ALL_DAY 타입은 날짜 단위이므로 minSlots와 무관하게 하루를 하나의 구간으로 취급
+     */
+    public List<QuorumWindow> getQuorumWindows(Meeting meeting, int minAttendees, int minSlots) {
+        if (minAttendees < 1 || minSlots < 1) {
+            throw new BusinessException(ErrorCode.MEETING_QUORUM_INVALID);
         }
+
+        int effectiveMinSlots = meeting.getSelectionType() == SelectionType.ALL_DAY ? 1 : minSlots;
+        return QuorumWindowFinder.find(summarySnapshotService.getContent(meeting), minAttendees, effectiveMinSlots);
     }
 
     private void validateSelections(Meeting meeting, Map<String, int[]> selections) {
@@ -6,14 +6,21 @@ import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingDetailData;
 import com.cover.time2gather.domain.meeting.MeetingLocation;
 import com.cover.time2gather.domain.meeting.MeetingLocationSelection;
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.event.MeetingChange;
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
 import com.cover.time2gather.infra.meeting.MeetingLocationRepository;
 import com.cover.time2gather.infra.meeting.MeetingLocationSelectionRepository;
+import com.cover.time2gather.infra.meeting.MeetingParticipantPriorityRepository;
 import com.cover.time2gather.infra.meeting.MeetingRepository;
-import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.infra.meeting.MeetingSlotCountRepository;
 import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
 import com.cover.time2gather.domain.user.User;
 import com.cover.time2gather.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,7 +43,12 @@ public class MeetingService {
     private final MeetingLocationSelectionRepository locationSelectionRepository;
     private final UserRepository userRepository;
     private final MeetingUserSelectionRepository selectionRepository;
-    private final BestSlotBuilder bestSlotBuilder;
+    private final MeetingSlotCountRepository slotCountRepository;
+    private final MeetingParticipantPriorityRepository participantPriorityRepository;
+    private final MeetingSummarySnapshotService summarySnapshotService;
+    private final MeetingDetailCache meetingDetailCache;
+    private final MeetingMetrics meetingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
     private final SecureRandom secureRandom = new SecureRandom();
 
     @Transactional
@@ -92,6 +104,12 @@ public class MeetingService {
 
         Meeting savedMeeting = meetingRepository.save(meeting);
 
+        // 선택 인원 집계 행 생성 (이후 선택 저장 시 delta만 반영)
+        slotCountRepository.save(MeetingSlotCount.create(savedMeeting.getId()));
+
+        // 요약 스냅샷 행 생성 (이후 선택/우선순위 변경 시 재작성)
+        summarySnapshotService.initialize(savedMeeting.getId());
+
         // 장소 후보 저장
         if (enableLocationVote && locations != null) {
             for (int i = 0; i < locations.size(); i++) {
@@ -130,26 +148,96 @@ public class MeetingService {
     public void confirmMeeting(Meeting meeting, LocalDate date, Integer slotIndex) {
         meeting.confirm(date, slotIndex);
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChange.ConfirmationChanged.of(meeting)));
     }
 
     @Transactional
     public void cancelConfirmation(Meeting meeting) {
         meeting.cancelConfirmation();
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, MeetingChange.ConfirmationChanged.of(meeting)));
+    }
+
+    /**
+     * 참여자 필수 여부/가중치 지정 (호스트 권한은 호출 측에서 확인)
+     * 시간을 선택한 참여자만 지정할 수 있음
+     * 선택 저장과 같은 순서(모임 → 스냅샷)로 잠그도록 모임 행을 먼저 잠금
+     */
+    @Transactional
+    public MeetingParticipantPriority updateParticipantPriority(Meeting meeting, Long userId, boolean required, int weight) {
+        meetingRepository.selectByIdForUpdate(meeting.getId());
+
+        if (selectionRepository.findByMeetingIdAndUserId(meeting.getId(), userId).isEmpty()) {
+            throw new BusinessException(ErrorCode.MEETING_PARTICIPANT_NOT_FOUND, userId);
+        }
+
+        MeetingParticipantPriority priority = participantPriorityRepository
+                .findByMeetingIdAndUserId(meeting.getId(), userId)
+                .orElse(null);
+
+        if (priority == null) {
+            priority = participantPriorityRepository.save(
+                    MeetingParticipantPriority.create(meeting.getId(), userId, required, weight));
+        } else {
+            priority.update(required, weight);
+        }
+
+        // BestSlot 순위가 바뀌므로 요약 스냅샷 재작성
+        summarySnapshotService.refresh(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.of(meeting, new MeetingChange.PriorityChanged(userId)));
+        return priority;
+    }
+
+    /**
+     * 모임 변경 버전 조회 (상세 조회 ETag용, 선택/스냅샷 내용은 읽지 않음)
+     * 스냅샷 행이 없는 기존 모임은 empty
+     */
+    public Optional<Long> getMeetingChangeVersion(String meetingCode) {
+        return summarySnapshotService.getVersion(meetingCode);
     }
 
     /**
      * 모임 상세 데이터 조회 (비즈니스 로직 포함)
      * 도메인 모델만 반환
+     *
+     * 날짜/슬롯별 참여자와 BestSlot은 요약 스냅샷에서 읽으므로 selections는 비어 있습니다.
+     * 사용자와 무관한 결과는 MeetingDetailCache에 캐시하고, 참여 여부만 요청마다 계산합니다.
      */
     public MeetingDetailData getMeetingDetailData(String meetingCode, Long currentUserId) {
+        return getMeetingDetailData(meetingCode, currentUserId, getMeetingChangeVersion(meetingCode));
+    }
+
+    /**
+     * 이미 읽은 모임 변경 버전 기준으로 상세 데이터 조회
+     * 캐시 키로 같은 버전을 사용하므로 ETag와 응답 본문이 같은 버전을 가리킵니다.
+     * 버전이 없는 기존 모임(스냅샷 행 없음)은 캐시하지 않습니다.
+     *
+     * @param changeVersion getMeetingChangeVersion 결과
+     */
+    public MeetingDetailData getMeetingDetailData(String meetingCode, Long currentUserId, Optional<Long> changeVersion) {
+        MeetingDetailData detailData = changeVersion
+                .map(version -> meetingDetailCache.get(meetingCode, version, () -> loadMeetingDetailData(meetingCode)))
+                .orElseGet(() -> loadMeetingDetailData(meetingCode));
+
+        // 현재 사용자의 참여 여부 확인
+        boolean isParticipated = currentUserId != null && detailData.getParticipants().stream()
+                .anyMatch(user -> currentUserId.equals(user.getId()));
+
+        return detailData.withParticipated(isParticipated);
+    }
+
+    /**
+     * 캐시 miss 시 상세 데이터 구성
+     * DB 조회(load)와 응답 데이터 구성(mapping) 시간을 나누어 기록
+     */
+    private MeetingDetailData loadMeetingDetailData(String meetingCode) {
+        long startNanos = System.nanoTime();
+
         Meeting meeting = getMeetingByCode(meetingCode);
-        List<MeetingUserSelection> selections = selectionRepository.findAllByMeetingId(meeting.getId());
+        MeetingSummaryContent content = summarySnapshotService.getContent(meeting);
 
-        // 참여자 ID 목록 추출 (시간 선택이 있는 사용자만)
-        Set<Long> participantIds = selections.stream()
-                .map(MeetingUserSelection::getUserId)
-                .collect(Collectors.toSet());
+        // 참여자 ID 목록 (시간 선택이 있는 사용자만)
+        List<Long> participantIds = content.getParticipantIdList();
 
         // 한 번에 모든 사용자 정보 조회
         Map<Long, User> userMap = userRepository.findAllById(participantIds).stream()
@@ -159,78 +247,47 @@ public class MeetingService {
         User host = userRepository.findById(meeting.getHostUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
+        // 장소 투표 조회 (활성화된 경우에만)
+        List<MeetingLocation> locations = List.of();
+        List<MeetingLocationSelection> locationSelections = List.of();
+        if (meeting.isLocationVoteEnabled()) {
+            locations = locationRepository.selectByMeetingIdOrderByDisplayOrderAsc(meeting.getId());
+            locationSelections = locationSelectionRepository.selectByMeetingId(meeting.getId());
+        }
+
+        long loadedNanos = System.nanoTime();
+        meetingMetrics.recordDetailStage(MeetingMetrics.DETAIL_LOAD, participantIds.size(), loadedNanos - startNanos);
+
         List<User> participants = participantIds.stream()
                 .map(userMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        // 현재 사용자의 참여 여부 확인
-        boolean isParticipated = currentUserId != null && participantIds.contains(currentUserId);
-
-        // Schedule 데이터 구성
-        MeetingDetailData.ScheduleData schedule = buildScheduleData(selections, userMap);
-
-        // Summary 데이터 구성 (BestSlotBuilder를 통해 연속 슬롯 병합 및 참여자 명단 포함)
-        MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
-                meeting, selections, userMap, participantIds.size());
+        // Schedule / Summary 데이터 복원
+        MeetingDetailData.ScheduleData schedule = content.toScheduleData(userMap);
+        MeetingDetailData.SummaryData summary = content.toSummaryData(userMap);
 
         // 장소 데이터 구성
-        MeetingDetailData.LocationData locationData = buildLocationData(meeting, userMap);
+        MeetingDetailData.LocationData locationData = buildLocationData(meeting, locations, locationSelections, userMap);
 
-        return new MeetingDetailData(meeting, host, participants, selections, schedule, summary, isParticipated, locationData);
+        meetingMetrics.recordDetailStage(MeetingMetrics.DETAIL_MAPPING, participantIds.size(), System.nanoTime() - loadedNanos);
+        return new MeetingDetailData(meeting, host, participants, List.of(), schedule, summary, false, locationData);
     }
 
     /**
-     * 날짜/시간별 참여자 목록 구성 (비즈니스 로직)
+     * 장소 투표 데이터 구성
      */
-    private MeetingDetailData.ScheduleData buildScheduleData(
-            List<MeetingUserSelection> selections,
+    private MeetingDetailData.LocationData buildLocationData(
+            Meeting meeting,
+            List<MeetingLocation> locations,
+            List<MeetingLocationSelection> locationSelections,
             Map<Long, User> userMap
     ) {
-        Map<String, Map<Integer, List<User>>> dateTimeUserMap = new HashMap<>();
-
-        for (MeetingUserSelection selection : selections) {
-            User user = userMap.get(selection.getUserId());
-            Map<String, int[]> userSelections = selection.getSelections();
-
-            for (Map.Entry<String, int[]> entry : userSelections.entrySet()) {
-                String date = entry.getKey();
-                int[] slots = entry.getValue();
-
-                dateTimeUserMap.putIfAbsent(date, new HashMap<>());
-                Map<Integer, List<User>> slotUserMap = dateTimeUserMap.get(date);
-
-                // ALL_DAY 타입 (빈 배열)인 경우
-                if (slots.length == 0) {
-                    slotUserMap.putIfAbsent(-1, new ArrayList<>());
-                    slotUserMap.get(-1).add(user);
-                } else {
-                    // TIME 타입 (슬롯 배열)인 경우
-                    for (int slot : slots) {
-                        slotUserMap.putIfAbsent(slot, new ArrayList<>());
-                        slotUserMap.get(slot).add(user);
-                    }
-                }
-            }
-        }
-
-        return new MeetingDetailData.ScheduleData(dateTimeUserMap);
-    }
-
-    /**
-     * 장소 투표 데이터 구성
-     */
-    private MeetingDetailData.LocationData buildLocationData(Meeting meeting, Map<Long, User> userMap) {
         if (!meeting.isLocationVoteEnabled()) {
             return null;
         }
 
-        // 1. 장소 목록 조회
-        List<MeetingLocation> locations = locationRepository.selectByMeetingIdOrderByDisplayOrderAsc(meeting.getId());
-
-        // 2. 장소별 투표 조회
-        List<MeetingLocationSelection> locationSelections = locationSelectionRepository.selectByMeetingId(meeting.getId());
-
-        // 3. 장소별 투표 수 및 투표자 집계
+        // 1. 장소별 투표 수 및 투표자 집계
         Map<Long, List<User>> locationVotersMap = new HashMap<>();
         for (MeetingLocationSelection selection : locationSelections) {
             Long locationId = selection.getLocationId();
@@ -242,13 +299,13 @@ public class MeetingService {
             }
         }
 
-        // 4. 총 투표자 수 (중복 제거)
+        // 2. 총 투표자 수 (중복 제거)
         Set<Long> uniqueVoterIds = locationSelections.stream()
                 .map(MeetingLocationSelection::getUserId)
                 .collect(Collectors.toSet());
         int totalVoters = uniqueVoterIds.size();
 
-        // 5. LocationInfo 목록 생성
+        // 3. LocationInfo 목록 생성
         List<MeetingDetailData.LocationInfo> locationInfos = new ArrayList<>();
         MeetingDetailData.LocationInfo confirmedLocation = null;
 
@@ -0,0 +1,172 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.MeetingSummarySnapshot;
+import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.domain.user.User;
+import com.cover.time2gather.domain.user.UserRepository;
+import com.cover.time2gather.infra.meeting.MeetingParticipantPriorityRepository;
+import com.cover.time2gather.infra.meeting.MeetingSummarySnapshotRepository;
+import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 요약 스냅샷 관리
+ *
+ * 선택/우선순위 변경 시 호출 측 트랜잭션 안에서 스냅샷을 다시 계산하여 저장하고,
+ * 모임 상세 조회는 저장된 스냅샷을 그대로 읽습니다.
+ *
+ * 재작성은 호출 측이 모임 행을 먼저 잠근 상태에서 수행합니다 (MeetingRepository.selectByIdForUpdate).
+ * 다른 참여자의 선택은 선택 행을 다시 읽지 않고 잠근 스냅샷에서 복원하므로, 선택 하나를 바꿀 때 전체 선택 행을 읽지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingSummarySnapshotService {
+
+    private final MeetingSummarySnapshotRepository snapshotRepository;
+    private final MeetingUserSelectionRepository selectionRepository;
+    private final MeetingParticipantPriorityRepository participantPriorityRepository;
+    private final UserRepository userRepository;
+    private final BestSlotBuilder bestSlotBuilder;
+    private final MeetingMetrics meetingMetrics;
+
+    /**
+     * 신규 모임의 빈 스냅샷 생성
+     */
+    @Transactional
+    public void initialize(Long meetingId) {
+        snapshotRepository.save(MeetingSummarySnapshot.create(meetingId, MeetingSummaryContent.empty()));
+    }
+
+    /**
+     * 한 참여자의 선택 변경을 스냅샷에 반영 (호출 측 트랜잭션에 참여)
+     * 스냅샷의 참여자별 선택 중 이 참여자의 선택만 교체하여 BestSlot을 재계산합니다.
+     *
+     * @param selection 저장된 변경 후 선택
+     * @return 재작성한 스냅샷 내용
+     */
+    @Transactional
+    public MeetingSummaryContent applySelection(Meeting meeting, MeetingUserSelection selection) {
+        return rewrite(meeting, selection);
+    }
+
+    /**
+     * 스냅샷 재작성 (우선순위 변경 등 선택은 그대로인 경우, 호출 측 트랜잭션에 참여)
+     *
+     * @return 재작성한 스냅샷 내용
+     */
+    @Transactional
+    public MeetingSummaryContent refresh(Meeting meeting) {
+        return rewrite(meeting, null);
+    }
+
+    /**
+     * 스냅샷 행을 잠그고 다시 계산하여 저장
+     *
+     * 잠금 읽기는 최신 커밋을 읽으므로, 모임 잠금을 기다리는 동안 먼저 커밋된 다른 참여자의 변경이 복원에 포함됩니다.
+     * 스냅샷 행이 없는 기존 모임이나 이전 포맷은 전체 선택으로부터 계산합니다.
+     * 이때 선택도 잠금 읽기로 조회하지만, 같은 모임의 선택 변경은 모임 잠금으로 직렬화되어 있어 기다리지 않습니다.
+     */
+    private MeetingSummaryContent rewrite(Meeting meeting, MeetingUserSelection changed) {
+        MeetingSummarySnapshot snapshot = snapshotRepository.selectByMeetingIdForUpdate(meeting.getId())
+                .orElse(null);
+
+        List<MeetingUserSelection> selections = Optional.ofNullable(snapshot)
+                .flatMap(MeetingSummarySnapshot::readContent)
+                .map(stored -> restoreSelections(meeting, stored, changed))
+                .orElseGet(() -> selectionRepository.selectAllByMeetingIdForShare(meeting.getId()));
+
+        MeetingSummaryContent content = compute(meeting, selections);
+
+        if (snapshot == null) {
+            snapshotRepository.save(MeetingSummarySnapshot.create(meeting.getId(), content));
+            return content;
+        }
+        snapshot.rewrite(content);
+        return content;
+    }
+
+    /**
+     * 스냅샷 내용으로부터 참여자별 선택 복원 (changed가 있으면 해당 참여자의 선택을 교체)
+     * 복원한 선택은 BestSlot 계산에만 쓰는 비영속 객체입니다.
+     */
+    private List<MeetingUserSelection> restoreSelections(Meeting meeting, MeetingSummaryContent stored, MeetingUserSelection changed) {
+        Map<Long, Map<String, int[]>> selectionsByUser = stored.toSelectionsByUser();
+        if (changed != null) {
+            selectionsByUser.remove(changed.getUserId());
+        }
+
+        List<MeetingUserSelection> selections = new ArrayList<>(selectionsByUser.size() + 1);
+        for (Map.Entry<Long, Map<String, int[]>> entry : selectionsByUser.entrySet()) {
+            selections.add(MeetingUserSelection.create(
+                    meeting.getId(),
+                    entry.getKey(),
+                    meeting.getSelectionType(),
+                    meeting.getIntervalMinutes(),
+                    entry.getValue()
+            ));
+        }
+        if (changed != null) {
+            selections.add(changed);
+        }
+        return selections;
+    }
+
+    /**
+     * 모임 변경 버전 증가 (스냅샷 내용과 무관한 장소/확정 변경 포함, 호출 측 트랜잭션에 참여)
+     * 스냅샷 행이 없는 기존 모임은 버전이 없으므로 아무 것도 하지 않음
+     */
+    @Transactional
+    public void increaseVersion(Long meetingId) {
+        snapshotRepository.increaseVersion(meetingId);
+    }
+
+    /**
+     * 모임 변경 버전 조회 (스냅샷 행이 없으면 empty)
+     */
+    public Optional<Long> getVersion(String meetingCode) {
+        return snapshotRepository.selectVersionByMeetingCode(meetingCode);
+    }
+
+    /**
+     * 스냅샷 내용 조회
+     * 행이 없거나 이전 포맷이면 전체 선택으로부터 계산 (저장은 다음 변경 시)
+     */
+    public MeetingSummaryContent getContent(Meeting meeting) {
+        return snapshotRepository.findByMeetingId(meeting.getId())
+                .flatMap(MeetingSummarySnapshot::readContent)
+                .orElseGet(() -> compute(meeting, selectionRepository.findAllByMeetingId(meeting.getId())));
+    }
+
+    private MeetingSummaryContent compute(Meeting meeting, List<MeetingUserSelection> selections) {
+        List<Long> participantIds = selections.stream()
+                .map(MeetingUserSelection::getUserId)
+                .distinct()
+                .toList();
+
+        Map<Long, User> userMap = userRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<MeetingParticipantPriority> priorities = participantPriorityRepository.findAllByMeetingId(meeting.getId());
+
+        long startNanos = System.nanoTime();
+        MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                meeting, selections, userMap, participantIds.size(), priorities);
+        meetingMetrics.recordBestSlot(participantIds.size(), System.nanoTime() - startNanos);
+
+        return MeetingSummaryContent.of(selections, summary);
+    }
+}
@@ -0,0 +1,96 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 필수 참석자 / 가중치 기반 범위 평가
+ *
+ * 참여자별 조회 없이 비트맵 연산만으로 평가할 수 있도록 생성 시점에 마스크를 미리 계산합니다.
+ * - requiredMask: 필수 참석자 비트맵. (common & requiredMask) == requiredMask 인 범위만 후보 (word당 AND 한 번)
+ * - 가중치 그룹: 가중치가 기본값(1)이 아닌 참여자를 가중치별 비트맵으로 묶음
+ *   score = count + Σ (weight - 1) × popcount(common & groupMask)
+ *
+ * 필수 참석자가 아무 시간도 선택하지 않았다면 (dense index 없음) 모든 범위가 제외됩니다.
+ */
+final class ParticipantPriorityScorer implements RangeScorer {
+
+    private final long[] requiredMask;
+    private final boolean satisfiable;
+    private final int[] extraWeights;
+    private final long[][] weightMasks;
+
+    private ParticipantPriorityScorer(long[] requiredMask, boolean satisfiable, int[] extraWeights, long[][] weightMasks) {
+        this.requiredMask = requiredMask;
+        this.satisfiable = satisfiable;
+        this.extraWeights = extraWeights;
+        this.weightMasks = weightMasks;
+    }
+
+    static ParticipantPriorityScorer of(SlotAvailabilityMatrix matrix, List<MeetingParticipantPriority> priorities) {
+        int words = matrix.getWordCount();
+        long[] requiredMask = new long[words];
+        boolean satisfiable = true;
+        TreeMap<Integer, long[]> groups = new TreeMap<>();
+
+        for (MeetingParticipantPriority priority : priorities) {
+            int index = matrix.indexOf(priority.getUserId());
+
+            if (index < 0) {
+                // 선택이 없는 필수 참석자 → 어떤 범위도 만족 불가
+                if (priority.isRequired()) {
+                    satisfiable = false;
+                }
+                continue;
+            }
+
+            if (priority.isRequired()) {
+                requiredMask[index >>> 6] |= 1L << index;
+            }
+            if (priority.getWeight() != MeetingParticipantPriority.DEFAULT_WEIGHT) {
+                groups.computeIfAbsent(priority.getWeight(), k -> new long[words])[index >>> 6] |= 1L << index;
+            }
+        }
+
+        int[] extraWeights = new int[groups.size()];
+        long[][] weightMasks = new long[groups.size()][];
+        int i = 0;
+        for (Map.Entry<Integer, long[]> entry : groups.entrySet()) {
+            extraWeights[i] = entry.getKey() - MeetingParticipantPriority.DEFAULT_WEIGHT;
+            weightMasks[i] = entry.getValue();
+            i++;
+        }
+
+        return new ParticipantPriorityScorer(requiredMask, satisfiable, extraWeights, weightMasks);
+    }
+
+    @Override
+    public boolean isEligible(long[] common) {
+        if (!satisfiable) {
+            return false;
+        }
+        for (int w = 0; w < requiredMask.length; w++) {
+            if ((common[w] & requiredMask[w]) != requiredMask[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long score(long[] common, int count) {
+        long score = count;
+        for (int g = 0; g < weightMasks.length; g++) {
+            long[] mask = weightMasks[g];
+            int groupCount = 0;
+            for (int w = 0; w < mask.length; w++) {
+                groupCount += Long.bitCount(common[w] & mask[w]);
+            }
+            score += (long) extraWeights[g] * groupCount;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,172 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 N명 이상이 M개 이상 연속 슬롯 동안 모두 가능한 구간 탐색
+ *
+ * 요약 스냅샷의 날짜×슬롯별 참여자 비트맵을 날짜마다 한 번씩 훑는 two-pointer 방식입니다.
+ * 참여자별 현재 연속 가능 구간의 시작 위치(runStart)를 유지하면, 구간 [start, end]의 공통 참여자는
+ * "end에 가능하면서 runStart ≤ start인 참여자"이므로 범위를 다시 AND하지 않고 증분으로 셀 수 있습니다.
+ *
+ * - 조건은 구간 단위: 구간의 모든 슬롯을 선택한 같은 참여자가 N명 이상 (슬롯마다 다른 사람이 채우는 경우는 제외)
+ * - 끝 슬롯이 늘어나도 가장 긴 구간의 시작은 줄지 않으므로 start는 앞으로만 이동
+ * - 시작이 앞으로 이동하거나 조건이 깨지기 직전의 구간만 최대 구간으로 반환 (참여자 구성이 다르면 구간끼리 겹칠 수 있음)
+ * - 시간 복잡도 O(D × S × ⌈U/64⌉ + E): 슬롯마다 이전 슬롯 비트맵과 비교하여 시작/종료된 참여자(E는 전체 시작/종료 횟수, 선택 비트 수 이하)만 갱신
+ * - 정렬: 날짜 오름차순 → 시작 슬롯 오름차순
+ */
+final class QuorumWindowFinder {
+
+    private QuorumWindowFinder() {
+    }
+
+    static List<QuorumWindow> find(MeetingSummaryContent content, int minAttendees, int minSlots) {
+        Map<String, Map<Integer, long[]>> schedule = content.getSchedule();
+        String[] dates = schedule.keySet().toArray(new String[0]);
+        Arrays.sort(dates);
+
+        List<QuorumWindow> result = new ArrayList<>();
+        for (String date : dates) {
+            new DateScan(date, schedule.get(date), content.getParticipantIds(), minAttendees, minSlots, result).run();
+        }
+        return result;
+    }
+
+    /**
+     * 하루치 슬롯에 대한 two-pointer 탐색 상태
+     */
+    private static final class DateScan {
+
+        private final String date;
+        private final Map<Integer, long[]> slotBitmaps;
+        private final long[] participantIds;
+        private final int minAttendees;
+        private final int minSlots;
+        private final List<QuorumWindow> result;
+
+        private final int[] slots;
+        private final int[] runStart;
+        private final int[] runningByStart;
+
+        private long[] previous;
+        private int start = -1;
+        private int common;
+        private int pendingStart = -1;
+        private int pendingEnd = -1;
+
+        private DateScan(
+                String date,
+                Map<Integer, long[]> slotBitmaps,
+                long[] participantIds,
+                int minAttendees,
+                int minSlots,
+                List<QuorumWindow> result
+        ) {
+            this.date = date;
+            this.slotBitmaps = slotBitmaps;
+            this.participantIds = participantIds;
+            this.minAttendees = minAttendees;
+            this.minSlots = minSlots;
+            this.result = result;
+            this.slots = slotBitmaps.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            this.runStart = new int[participantIds.length];
+            this.runningByStart = new int[slots.length];
+            this.previous = new long[(participantIds.length + 63) >>> 6];
+        }
+
+        private void run() {
+            for (int end = 0; end < slots.length; end++) {
+                // 슬롯이 끊기면 모든 연속 가능 구간 종료
+                if (end > 0 && slots[end] != slots[end - 1] + 1) {
+                    flushPending();
+                    start = -1;
+                    advance(new long[previous.length], end);
+                }
+
+                long[] current = slotBitmaps.get(slots[end]);
+                advance(current, end);
+
+                if (start < 0) {
+                    start = end;
+                    common = SlotAvailabilityMatrix.cardinality(current);
+                }
+                while (common < minAttendees && start < end) {
+                    start++;
+                    common += runningByStart[start];
+                }
+
+                if (common >= minAttendees) {
+                    if (pendingStart != start) {
+                        flushPending();
+                    }
+                    pendingStart = start;
+                    pendingEnd = end;
+                } else {
+                    flushPending();
+                    start = -1;
+                }
+            }
+            flushPending();
+        }
+
+        /**
+         * 이전 슬롯과 비교하여 종료/시작된 참여자의 연속 구간 상태 갱신
+         * 종료된 참여자의 runStart는 지우지 않으므로, 직전 슬롯에서 끝나는 보류 구간의 참여자 복원에 그대로 사용됩니다.
+         */
+        private void advance(long[] current, int position) {
+            for (int w = 0; w < current.length; w++) {
+                long ended = previous[w] & ~current[w];
+                while (ended != 0) {
+                    int index = (w << 6) + Long.numberOfTrailingZeros(ended);
+                    runningByStart[runStart[index]]--;
+                    if (start >= 0 && runStart[index] <= start) {
+                        common--;
+                    }
+                    ended &= ended - 1;
+                }
+
+                long started = current[w] & ~previous[w];
+                while (started != 0) {
+                    int index = (w << 6) + Long.numberOfTrailingZeros(started);
+                    runStart[index] = position;
+                    runningByStart[position]++;
+                    started &= started - 1;
+                }
+            }
+            previous = current;
+        }
+
+        /**
+         * 보류 중인 최대 구간을 결과에 추가 (끝 슬롯에 가능하면서 구간 시작 전부터 이어진 참여자)
+         */
+        private void flushPending() {
+            if (pendingStart < 0) {
+                return;
+            }
+
+            if (pendingEnd - pendingStart + 1 >= minSlots) {
+                long[] bitmap = slotBitmaps.get(slots[pendingEnd]);
+                List<Long> attendeeIds = new ArrayList<>();
+                for (int w = 0; w < bitmap.length; w++) {
+                    long word = bitmap[w];
+                    while (word != 0) {
+                        int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                        if (runStart[index] <= pendingStart) {
+                            attendeeIds.add(participantIds[index]);
+                        }
+                        word &= word - 1;
+                    }
+                }
+                result.add(new QuorumWindow(date, slots[pendingStart], slots[pendingEnd], attendeeIds));
+            }
+            pendingStart = -1;
+            pendingEnd = -1;
+        }
+    }
+}
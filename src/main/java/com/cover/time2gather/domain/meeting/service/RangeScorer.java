@@ -0,0 +1,37 @@
+package com.cover.time2gather.domain.meeting.service;
+
+/**
+ * 연속 범위 평가 기준
+ *
+ * TopRangeSelector가 범위를 확장할 때마다 공통 참여자 비트맵(common)으로 호출합니다.
+ * common은 범위가 넓어질수록 비트가 줄어들기만 하므로, isEligible이 false가 되면 같은 시작점의 더 넓은 범위도 모두 제외됩니다.
+ */
+interface RangeScorer {
+
+    /**
+     * 기본 기준: 공통 참여자 수
+     */
+    RangeScorer COUNT = new RangeScorer() {
+        @Override
+        public boolean isEligible(long[] common) {
+            return true;
+        }
+
+        @Override
+        public long score(long[] common, int count) {
+            return count;
+        }
+    };
+
+    /**
+     * 범위를 후보로 인정할지 여부
+     */
+    boolean isEligible(long[] common);
+
+    /**
+     * 범위 점수 (높을수록 앞선 순위)
+     *
+     * @param count common의 비트 수 (popcount)
+     */
+    long score(long[] common, int count);
+}
@@ -0,0 +1,91 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.ReportJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레포트 생성 작업 폴러
+ *
+ * poll-interval마다 실행 가능한 작업을 가져와 레포트 워커에 넘깁니다.
+ * 실행기가 가득 차 넘기지 못한 작업은 반납하고 남은 작업도 이번 폴링에서는 넘기지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReportJobPoller {
+
+    private final ReportJobService reportJobService;
+    private final ReportWorkerService reportWorkerService;
+    private final ScheduledExecutorService scheduler;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+
+    public ReportJobPoller(
+            ReportJobService reportJobService,
+            ReportWorkerService reportWorkerService,
+            @Qualifier("reportJobScheduler") ScheduledExecutorService scheduler,
+            @Value("${report.job.enabled:true}") boolean enabled,
+            @Value("${report.job.poll-interval:2s}") Duration pollInterval,
+            @Value("${report.job.batch-size:10}") int batchSize
+    ) {
+        this.reportJobService = reportJobService;
+        this.reportWorkerService = reportWorkerService;
+        this.scheduler = scheduler;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Report job polling is disabled");
+            return;
+        }
+        long intervalMillis = Math.max(100, pollInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void poll() {
+        List<ReportJob> jobs;
+        try {
+            jobs = reportJobService.claim(batchSize);
+        } catch (Exception e) {
+            log.error("Failed to claim report jobs", e);
+            return;
+        }
+
+        boolean rejected = false;
+        for (ReportJob job : jobs) {
+            if (!rejected) {
+                try {
+                    reportWorkerService.generateReportAsync(job.getId(), job.getMeetingId(), job.getAttempts());
+                    continue;
+                } catch (RejectedExecutionException e) {
+                    log.warn("Report task queue is full. Releasing remaining jobs. meetingId={}", job.getMeetingId());
+                    rejected = true;
+                }
+            }
+            release(job);
+        }
+    }
+
+    private void release(ReportJob job) {
+        try {
+            reportJobService.release(job.getId());
+        } catch (Exception e) {
+            log.error("Failed to release report job. meetingId={}", job.getMeetingId(), e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.ReportJob;
+import com.cover.time2gather.domain.meeting.ReportJobStatus;
+import com.cover.time2gather.infra.meeting.MeetingRepository;
+import com.cover.time2gather.infra.meeting.ReportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.cover.time2gather.domain.meeting.constants.ReportConstants.MAX_RETRY_COUNT;
+
+/**
+ * 레포트 생성 작업(outbox) 관리
+ *
+ * 요청은 선택 저장 트랜잭션에 참여하여 기록하고, 워커 노드는 claim으로 실행 가능한 작업을 나누어 가져갑니다.
+ * 완료/실패 처리는 작업을 가져간 인스턴스(lease owner)일 때만 반영합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ReportJobService {
+
+    private final ReportJobRepository reportJobRepository;
+    private final MeetingRepository meetingRepository;
+    private final String instanceId;
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    public ReportJobService(
+            ReportJobRepository reportJobRepository,
+            MeetingRepository meetingRepository,
+            @Value("${report.job.instance-id:}") String instanceId,
+            @Value("${report.debounce.quiet-period:10s}") Duration quietPeriod,
+            @Value("${report.debounce.max-delay:60s}") Duration maxDelay,
+            @Value("${report.job.lease:5m}") Duration lease,
+            @Value("${report.job.retry-backoff:2s}") Duration retryBackoff,
+            @Value("${report.job.max-retry-backoff:5m}") Duration maxRetryBackoff
+    ) {
+        this.reportJobRepository = reportJobRepository;
+        this.meetingRepository = meetingRepository;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.quietPeriod = quietPeriod;
+        this.maxDelay = maxDelay.compareTo(quietPeriod) < 0 ? quietPeriod : maxDelay;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * 레포트 생성 요청 기록 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void request(Long meetingId) {
+        LocalDateTime now = LocalDateTime.now();
+        reportJobRepository.selectByMeetingIdForUpdate(meetingId)
+                .ifPresentOrElse(
+                        job -> job.request(now, quietPeriod, maxDelay),
+                        () -> reportJobRepository.save(ReportJob.create(meetingId, now, quietPeriod, maxDelay))
+                );
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 가져옴
+     * lease가 만료된 작업이 이미 최대 시도 횟수에 도달했으면 다시 실행하지 않고 FAILED 처리
+     */
+    @Transactional
+    public List<ReportJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportJob> candidates = reportJobRepository.selectClaimableForUpdate(
+                ReportJobStatus.PENDING, ReportJobStatus.RUNNING, now, PageRequest.of(0, limit));
+
+        List<ReportJob> claimed = new ArrayList<>(candidates.size());
+        for (ReportJob job : candidates) {
+            if (job.getStatus() == ReportJobStatus.RUNNING && job.getAttempts() >= MAX_RETRY_COUNT) {
+                log.error("Report job lease expired after max attempts. meetingId={}, attempts={}",
+                        job.getMeetingId(), job.getAttempts());
+                job.fail("lease expired", now, MAX_RETRY_COUNT, retryBackoff, maxRetryBackoff);
+                continue;
+            }
+            job.claim(instanceId, now, lease);
+            claimed.add(job);
+        }
+        return claimed;
+    }
+
+    /**
+     * 스트리밍 생성을 위해 모임의 작업을 가져감 (outbox 워커와 같은 모임을 동시에 생성하지 않도록)
+     * 작업 행이 없으면 만들어서 가져가며, 다른 인스턴스(워커 포함)가 lease를 가진 실행 중 작업이면 empty
+     * 선택 저장과 같은 순서(모임 → 작업)로 잠가 작업 행 생성이 동시에 일어나지 않도록 합니다.
+     *
+     * @return 가져간 작업 ID (완료/실패 처리는 워커와 같은 complete/release 사용)
+     */
+    @Transactional
+    public Optional<Long> claimForStreaming(Long meetingId) {
+        LocalDateTime now = LocalDateTime.now();
+        meetingRepository.selectByIdForUpdate(meetingId);
+
+        ReportJob job = reportJobRepository.selectByMeetingIdForUpdate(meetingId).orElse(null);
+        if (job == null) {
+            job = reportJobRepository.save(ReportJob.create(meetingId, now, quietPeriod, maxDelay));
+        } else if (job.getStatus() == ReportJobStatus.RUNNING && job.getLeaseUntil().isAfter(now)) {
+            return Optional.empty();
+        }
+
+        job.claim(instanceId, now, lease);
+        return Optional.of(job.getId());
+    }
+
+    /**
+     * 생성 성공 (실행 중 새 요청이 있었으면 다시 대기, 없으면 작업 삭제)
+     */
+    @Transactional
+    public void complete(Long jobId) {
+        reportJobRepository.selectByIdForUpdate(jobId)
+                .filter(job -> job.isLeasedBy(instanceId))
+                .ifPresent(job -> {
+                    if (job.hasNewRequest()) {
+                        job.requeue();
+                        return;
+                    }
+                    reportJobRepository.delete(job);
+                });
+    }
+
+    /**
+     * 생성 실패 (backoff 후 재시도, 최대 시도 횟수 초과 시 FAILED)
+     */
+    @Transactional
+    public void fail(Long jobId, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        reportJobRepository.selectByIdForUpdate(jobId)
+                .filter(job -> job.isLeasedBy(instanceId))
+                .ifPresent(job -> {
+                    job.fail(error, now, MAX_RETRY_COUNT, retryBackoff, maxRetryBackoff);
+                    if (job.getStatus() == ReportJobStatus.FAILED) {
+                        log.error("Max retry count reached. meetingId={}, attempts={}",
+                                job.getMeetingId(), job.getAttempts());
+                    } else {
+                        log.info("Scheduling retry. meetingId={}, attempts={}, availableAt={}",
+                                job.getMeetingId(), job.getAttempts(), job.getAvailableAt());
+                    }
+                });
+    }
+
+    /**
+     * 실행기에 넘기지 못한 작업 반납 (다음 폴링에서 다시 가져감)
+     */
+    @Transactional
+    public void release(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        reportJobRepository.selectByIdForUpdate(jobId)
+                .filter(job -> job.isLeasedBy(instanceId))
+                .ifPresent(job -> job.release(now));
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 작업 삭제 (모임 데이터 무결성 오류 등)
+     */
+    @Transactional
+    public void discard(Long jobId) {
+        reportJobRepository.selectByIdForUpdate(jobId)
+                .filter(job -> job.isLeasedBy(instanceId))
+                .ifPresent(reportJobRepository::delete);
+    }
+
+    private static String defaultInstanceId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return (host.length() > 50 ? host.substring(0, 50) : host) + "-" + suffix;
+        } catch (Exception e) {
+            return "report-worker-" + suffix;
+        }
+    }
+}
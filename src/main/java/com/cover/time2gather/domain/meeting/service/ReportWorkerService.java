@@ -1,94 +1,214 @@
 package com.cover.time2gather.domain.meeting.service;
 
-import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingReport;
 import com.cover.time2gather.domain.meeting.ReportData;
+import com.cover.time2gather.domain.meeting.client.ReportPrompt;
 import com.cover.time2gather.domain.meeting.client.ReportSummaryClient;
-import com.cover.time2gather.domain.meeting.event.ReportGenerateEvent;
 import com.cover.time2gather.infra.meeting.MeetingReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
-import static com.cover.time2gather.domain.meeting.constants.ReportConstants.MAX_RETRY_COUNT;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 /**
  * 모임 레포트 생성 비동기 작업 서비스
+ *
+ * ReportJobPoller가 가져온 작업을 실행하고, 결과(완료/재시도/폐기)를 작업 행에 기록합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReportWorkerService {
 
-    private final ApplicationEventPublisher eventPublisher;
     private final ReportSummaryClient summaryClient;
-    private final ScheduledExecutorService reportRetryScheduler;
+    private final ReportJobService reportJobService;
+    private final Semaphore reportAiSemaphore;
 
     private final ReportDataAggregator reportDataAggregator;
 
     private final MeetingReportRepository reportRepository;
+    private final MeetingMetrics meetingMetrics;
 
     @Async("reportTaskExecutor")
-    public void generateReportAsync(Long meetingId, Integer currentRetryCount) {
+    public void generateReportAsync(Long jobId, Long meetingId, Integer attempt) {
         ReportData reportData;
 
+        long startNanos = System.nanoTime();
         try {
             reportData = reportDataAggregator.aggregate(meetingId);
         } catch (IllegalArgumentException | IllegalStateException | NullPointerException e) {
             log.error("Permanent failure - Data integrity issue. meetingId={}", meetingId, e);
+            discardJob(jobId, meetingId);
             return;
         } catch (Exception e) {
-            log.error("Failed to load meeting data. meetingId={}, retryCount={}", meetingId, currentRetryCount, e);
-            handleRetry(meetingId, currentRetryCount);
+            log.error("Failed to load meeting data. meetingId={}, attempt={}", meetingId, attempt, e);
+            handleRetry(jobId, meetingId, attempt, e);
             return;
         }
 
-        Meeting meeting = reportData.meeting();
+        int participantCount = reportData.selections().size();
+
+        ReportPrompt prompt;
+        MeetingReport existingReport;
+        try {
+            prompt = summaryClient.buildPrompt(reportData);
+            existingReport = reportRepository.findByMeetingId(meetingId).orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to build summary prompt. meetingId={}, attempt={}", meetingId, attempt, e);
+            handleRetry(jobId, meetingId, attempt, e);
+            return;
+        }
+        meetingMetrics.recordReportStage(MeetingMetrics.REPORT_AGGREGATE, participantCount, System.nanoTime() - startNanos);
+
+        // 이전 레포트와 같은 입력이면 AI 호출과 저장을 모두 건너뜀
+        if (isUnchanged(existingReport, prompt)) {
+            log.info("Report input unchanged. Skipping summary generation. meetingId={}", meetingId);
+            completeJob(jobId, meetingId);
+            return;
+        }
 
         String summaryText;
+        startNanos = System.nanoTime();
         try {
-            summaryText = summaryClient.generateSummary(reportData);
+            summaryText = generateSummary(prompt);
             if (summaryText == null || summaryText.isBlank()) {
                 log.warn("Received empty summary for meetingId={}", meetingId);
                 summaryText = "";
             }
         } catch (Exception e) {
-            log.error("Failed to generate summary. meetingId={}, retryCount={}", meetingId, currentRetryCount, e);
-            handleRetry(meetingId, currentRetryCount);
+            log.error("Failed to generate summary. meetingId={}, attempt={}", meetingId, attempt, e);
+            handleRetry(jobId, meetingId, attempt, e);
             return;
         }
+        meetingMetrics.recordReportStage(MeetingMetrics.REPORT_LLM, participantCount, System.nanoTime() - startNanos);
 
+        startNanos = System.nanoTime();
         try {
-            saveMeetingReport(meetingId, summaryText);
+            saveMeetingReport(meetingId, existingReport, summaryText, prompt);
+            meetingMetrics.recordReportStage(MeetingMetrics.REPORT_SAVE, participantCount, System.nanoTime() - startNanos);
             log.info("Meeting report saved successfully. meetingId={}", meetingId);
         } catch (Exception e) {
-            log.error("Failed to save meeting report. meetingId={}, retryCount={}", meetingId, currentRetryCount, e);
-            handleRetry(meetingId, currentRetryCount);
+            log.error("Failed to save meeting report. meetingId={}, attempt={}", meetingId, attempt, e);
+            handleRetry(jobId, meetingId, attempt, e);
+            return;
         }
+
+        completeJob(jobId, meetingId);
+    }
+
+    /**
+     * 레포트 스트리밍 생성 (호출 스레드에서 실행)
+     * 생성된 조각을 onChunk로 전달하고, 끝까지 생성되면 저장한 뒤 전체 텍스트를 반환합니다.
+     * 이전 레포트와 같은 입력이면 AI를 호출하지 않고 저장된 레포트를 한 조각으로 전달합니다.
+     *
+     * 생성 전에 모임의 레포트 작업을 가져가므로, 생성 중에는 outbox 워커가 같은 모임을 생성하지 않습니다.
+     * 워커가 이미 생성 중이면 AI를 호출하지 않고 실패합니다.
+     * 성공하면 작업을 완료 처리하고 (생성 중 새 요청이 있었으면 다시 대기), 실패하면 워커가 다시 가져가도록 반납합니다.
+     */
+    public String generateReportStreaming(Long meetingId, Consumer<String> onChunk) throws InterruptedException {
+        Long jobId = reportJobService.claimForStreaming(meetingId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Report generation already in progress. meetingId=" + meetingId));
+
+        String summaryText;
+        try {
+            summaryText = streamSummary(meetingId, onChunk);
+        } catch (InterruptedException | RuntimeException e) {
+            releaseJob(jobId, meetingId);
+            throw e;
+        }
+
+        completeJob(jobId, meetingId);
+        return summaryText;
+    }
+
+    private String streamSummary(Long meetingId, Consumer<String> onChunk) throws InterruptedException {
+        ReportData reportData = reportDataAggregator.aggregate(meetingId);
+        ReportPrompt prompt = summaryClient.buildPrompt(reportData);
+        MeetingReport existingReport = reportRepository.findByMeetingId(meetingId).orElse(null);
+
+        if (isUnchanged(existingReport, prompt)) {
+            log.info("Report input unchanged. Returning saved report. meetingId={}", meetingId);
+            onChunk.accept(existingReport.getSummaryText());
+            return existingReport.getSummaryText();
+        }
+
+        String summaryText;
+        reportAiSemaphore.acquire();
+        try {
+            summaryText = summaryClient.generateSummaryStream(prompt, onChunk);
+        } finally {
+            reportAiSemaphore.release();
+        }
+
+        saveMeetingReport(meetingId, existingReport, summaryText, prompt);
+        log.info("Streamed meeting report saved successfully. meetingId={}", meetingId);
+        return summaryText;
+    }
+
+    private boolean isUnchanged(MeetingReport existingReport, ReportPrompt prompt) {
+        return existingReport != null && existingReport.isGeneratedFrom(prompt.inputHash());
     }
 
-    private void saveMeetingReport(Long meetingId, String summaryText) {
-        MeetingReport report = reportRepository.findByMeetingId(meetingId)
-                .map(r -> {
-                    r.updateSummaryText(summaryText);
-                    return r;
-                })
-                .orElseGet(() -> MeetingReport.create(meetingId, summaryText));
+    /**
+     * AI 호출은 reportAiSemaphore 허가를 얻은 뒤 실행 (실행기 스레드 수와 무관하게 제공자 동시 호출 수 제한)
+     */
+    private String generateSummary(ReportPrompt prompt) throws InterruptedException {
+        reportAiSemaphore.acquire();
+        try {
+            return summaryClient.generateSummary(prompt);
+        } finally {
+            reportAiSemaphore.release();
+        }
+    }
+
+    /**
+     * 레포트 저장 (빈 요약은 입력 해시를 남기지 않아 다음 요청 때 다시 생성)
+     */
+    private void saveMeetingReport(Long meetingId, MeetingReport existingReport, String summaryText, ReportPrompt prompt) {
+        String inputHash = summaryText.isBlank() ? null : prompt.inputHash();
+        MeetingReport report = existingReport;
+        if (report == null) {
+            report = MeetingReport.create(meetingId, summaryText, inputHash);
+        } else {
+            report.updateSummaryText(summaryText, inputHash);
+        }
         reportRepository.save(report);
     }
 
-    private void handleRetry(Long meetingId, Integer currentRetryCount) {
+    private void completeJob(Long jobId, Long meetingId) {
+        try {
+            reportJobService.complete(jobId);
+        } catch (Exception e) {
+            log.error("Failed to complete report job. meetingId={}", meetingId, e);
+        }
+    }
+
+    private void releaseJob(Long jobId, Long meetingId) {
+        try {
+            reportJobService.release(jobId);
+        } catch (Exception e) {
+            log.error("Failed to release report job. meetingId={}", meetingId, e);
+        }
+    }
+
+    private void handleRetry(Long jobId, Long meetingId, Integer attempt, Exception cause) {
+        updateRetryCount(meetingId);
         try {
-            updateRetryCount(meetingId);
-            scheduleRetry(meetingId, currentRetryCount);
+            reportJobService.fail(jobId, String.valueOf(cause.getMessage()));
         } catch (Exception e) {
-            log.error("Failed to schedule retry. meetingId={}, retryCount={}", meetingId, currentRetryCount, e);
+            log.error("Failed to schedule retry. meetingId={}, attempt={}", meetingId, attempt, e);
+        }
+    }
+
+    private void discardJob(Long jobId, Long meetingId) {
+        try {
+            reportJobService.discard(jobId);
+        } catch (Exception e) {
+            log.error("Failed to discard report job. meetingId={}", meetingId, e);
         }
     }
 
@@ -103,27 +223,4 @@ public class ReportWorkerService {
             log.error("Failed to update retry count. meetingId={}", meetingId, e);
         }
     }
-
-    private void scheduleRetry(Long meetingId, Integer currentRetryCount) {
-        int nextRetryCount = currentRetryCount + 1;
-
-        if (nextRetryCount >= MAX_RETRY_COUNT) {
-            log.error("Max retry count reached. meetingId={}, retryCount={}",
-                    meetingId, nextRetryCount);
-            return;
-        }
-
-        long delayMillis = (long) Math.pow(2, nextRetryCount) * 1000;
-        log.info("Scheduling retry. meetingId={}, nextRetryCount={}, delayMs={}",
-                meetingId, nextRetryCount, delayMillis);
-
-        reportRetryScheduler.schedule(() -> {
-            try {
-                eventPublisher.publishEvent(ReportGenerateEvent.ofRetry(meetingId, nextRetryCount));
-            } catch (Exception e) {
-                log.error("Failed to publish retry event. meetingId={}, retryCount={}",
-                        meetingId, nextRetryCount, e);
-            }
-        }, delayMillis, TimeUnit.MILLISECONDS);
-    }
 }
@@ -0,0 +1,252 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 날짜×슬롯별 참여자 가용성 비트맵
+ *
+ * 각 참여자에게 0부터 시작하는 dense index를 부여하고, 날짜별 슬롯마다 참여자 집합을 long[] 비트맵으로 저장합니다.
+ * 연속 범위의 공통 참여자 계산은 HashSet.retainAll 대신 word 단위 AND + popcount로 처리됩니다.
+ *
+ * - dense index는 userId 오름차순으로 부여 (참여자 명단 순서가 항상 결정적)
+ * - knownUserIds에 없는 사용자는 인덱스를 부여하지 않음 (BestSlot 참여자에서 제외되는 기존 정책과 동일)
+ */
+public final class SlotAvailabilityMatrix {
+
+    private final long[] userIds;
+    private final int wordCount;
+    private final int totalSlotCount;
+    private final Map<String, DateSlots> dateSlotsMap;
+
+    private SlotAvailabilityMatrix(long[] userIds, Map<String, DateSlots> dateSlotsMap) {
+        this.userIds = userIds;
+        this.wordCount = wordCount(userIds.length);
+        this.totalSlotCount = dateSlotsMap.values().stream().mapToInt(DateSlots::size).sum();
+        this.dateSlotsMap = dateSlotsMap;
+    }
+
+    /**
+     * 사용자 선택 목록으로부터 가용성 비트맵 생성
+     *
+     * @param selections 사용자별 시간 선택
+     * @param knownUserIds 참여자로 인정할 사용자 ID 집합
+     */
+    public static SlotAvailabilityMatrix of(List<MeetingUserSelection> selections, Set<Long> knownUserIds) {
+        // 1. dense index 부여 (userId 오름차순)
+        TreeSet<Long> sortedUserIds = new TreeSet<>();
+        for (MeetingUserSelection selection : selections) {
+            if (knownUserIds.contains(selection.getUserId())) {
+                sortedUserIds.add(selection.getUserId());
+            }
+        }
+
+        long[] userIds = new long[sortedUserIds.size()];
+        Map<Long, Integer> denseIndexMap = new HashMap<>();
+        int index = 0;
+        for (Long userId : sortedUserIds) {
+            userIds[index] = userId;
+            denseIndexMap.put(userId, index);
+            index++;
+        }
+
+        int words = wordCount(userIds.length);
+
+        // 2. 날짜-슬롯별 비트맵 구성
+        Map<String, TreeMap<Integer, long[]>> builder = new HashMap<>();
+
+        for (MeetingUserSelection selection : selections) {
+            Integer userIndex = denseIndexMap.get(selection.getUserId());
+            if (userIndex == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, int[]> entry : selection.getSelections().entrySet()) {
+                TreeMap<Integer, long[]> slotBitmaps = builder.computeIfAbsent(entry.getKey(), k -> new TreeMap<>());
+
+                for (int slot : entry.getValue()) {
+                    long[] bitmap = slotBitmaps.computeIfAbsent(slot, k -> new long[words]);
+                    bitmap[userIndex >>> 6] |= 1L << userIndex;
+                }
+            }
+        }
+
+        Map<String, DateSlots> dateSlotsMap = new HashMap<>();
+        for (Map.Entry<String, TreeMap<Integer, long[]>> entry : builder.entrySet()) {
+            dateSlotsMap.put(entry.getKey(), DateSlots.from(entry.getValue()));
+        }
+
+        return new SlotAvailabilityMatrix(userIds, dateSlotsMap);
+    }
+
+    /**
+     * 선택이 존재하는 날짜 목록
+     */
+    public Set<String> getDates() {
+        return Collections.unmodifiableSet(dateSlotsMap.keySet());
+    }
+
+    /**
+     * 날짜별 슬롯 비트맵 조회 (선택이 없는 날짜는 빈 DateSlots)
+     */
+    public DateSlots getDateSlots(String date) {
+        return dateSlotsMap.getOrDefault(date, DateSlots.EMPTY);
+    }
+
+    /**
+     * dense index가 부여된 참여자 수
+     */
+    public int getUserCount() {
+        return userIds.length;
+    }
+
+    /**
+     * 전체 날짜의 (선택이 존재하는) 슬롯 수 합계
+     */
+    public int getTotalSlotCount() {
+        return totalSlotCount;
+    }
+
+    /**
+     * 비트맵 하나에 필요한 long word 수
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * dense index → userId
+     */
+    public long getUserId(int denseIndex) {
+        return userIds[denseIndex];
+    }
+
+    /**
+     * userId → dense index (인덱스가 없으면 -1)
+     */
+    public int indexOf(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * 비트맵에 포함된 사용자 ID 목록 (dense index 오름차순 = userId 오름차순)
+     */
+    public List<Long> resolveUserIds(long[] bitmap) {
+        List<Long> result = new ArrayList<>(cardinality(bitmap));
+        for (int w = 0; w < bitmap.length; w++) {
+            long word = bitmap[w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                result.add(userIds[(w << 6) + bit]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 날짜의 startPosition ~ endPosition 슬롯을 모두 선택한 참여자 비트맵
+     */
+    public long[] intersect(String date, int startPosition, int endPosition) {
+        DateSlots dateSlots = getDateSlots(date);
+        long[] common = dateSlots.copyBitmapAt(startPosition);
+        for (int position = startPosition + 1; position <= endPosition; position++) {
+            andInPlace(common, dateSlots.bitmapAt(position));
+        }
+        return common;
+    }
+
+    /**
+     * target &= other (word 단위 AND)
+     *
+     * @return AND 결과의 비트 수 (popcount)
+     */
+    public static int andInPlace(long[] target, long[] other) {
+        int count = 0;
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= other[w];
+            count += Long.bitCount(target[w]);
+        }
+        return count;
+    }
+
+    /**
+     * 비트맵의 비트 수 (popcount)
+     */
+    public static int cardinality(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int wordCount(int userCount) {
+        return (userCount + 63) >>> 6;
+    }
+
+    /**
+     * 하루치 슬롯 비트맵
+     * slots는 오름차순 정렬되어 있으며, bitmaps[i]는 slots[i]를 선택한 참여자 집합입니다.
+     */
+    public static final class DateSlots {
+
+        private static final DateSlots EMPTY = new DateSlots(new int[0], new long[0][]);
+
+        private final int[] slots;
+        private final long[][] bitmaps;
+
+        private DateSlots(int[] slots, long[][] bitmaps) {
+            this.slots = slots;
+            this.bitmaps = bitmaps;
+        }
+
+        private static DateSlots from(TreeMap<Integer, long[]> slotBitmaps) {
+            int[] slots = new int[slotBitmaps.size()];
+            long[][] bitmaps = new long[slotBitmaps.size()][];
+            int i = 0;
+            for (Map.Entry<Integer, long[]> entry : slotBitmaps.entrySet()) {
+                slots[i] = entry.getKey();
+                bitmaps[i] = entry.getValue();
+                i++;
+            }
+            return new DateSlots(slots, bitmaps);
+        }
+
+        public int size() {
+            return slots.length;
+        }
+
+        public boolean isEmpty() {
+            return slots.length == 0;
+        }
+
+        public int slotAt(int position) {
+            return slots[position];
+        }
+
+        /**
+         * position 위치 슬롯의 비트맵 (내부 배열이므로 수정 금지)
+         */
+        public long[] bitmapAt(int position) {
+            return bitmaps[position];
+        }
+
+        /**
+         * position 위치 슬롯의 비트맵 복사본
+         */
+        public long[] copyBitmapAt(int position) {
+            return Arrays.copyOf(bitmaps[position], bitmaps[position].length);
+        }
+    }
+}
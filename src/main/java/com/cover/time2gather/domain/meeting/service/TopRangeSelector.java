@@ -0,0 +1,196 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 연속 슬롯 범위 Top K 선택기
+ *
+ * 모든 연속 범위를 리스트로 모아 전체 정렬하는 대신, 범위를 생성하면서 바로 비교하여 O(K) 메모리만 사용합니다.
+ *
+ * 선택 정책 (기존 "전체 정렬 후 겹치지 않는 Top N" 과 동일한 결과):
+ * - 정렬: score 내림차순 → count 내림차순 → 범위 넓이 내림차순 → 날짜 오름차순 → startSlotIndex 오름차순
+ * - 같은 날짜에서 이미 선택된 범위와 겹치는 범위는 제외
+ * - score/후보 조건은 RangeScorer가 결정 (기본 RangeScorer.COUNT는 score = count)
+ *
+ * 겹침 규칙은 같은 날짜 안에서만 적용되므로, 전역 선택 결과는
+ * "날짜별로 독립적으로 선택한 Top K" 를 합친 뒤 상위 K개를 고른 것과 같습니다.
+ * 1. 날짜별: K번의 스트리밍 최대값 탐색 (이미 선택된 슬롯을 포함하는 범위는 건너뜀)
+ * 2. 전체: 날짜별 후보를 크기 K의 힙으로 병합
+ */
+final class TopRangeSelector {
+
+    /**
+     * 후보 순위 비교 (앞설수록 작음)
+     */
+    static final Comparator<RangeCandidate> RANK_ORDER = Comparator
+            .comparingLong(RangeCandidate::score).reversed()
+            .thenComparing(Comparator.comparingInt(RangeCandidate::count).reversed())
+            .thenComparing(Comparator.comparingInt(RangeCandidate::width).reversed())
+            .thenComparing(RangeCandidate::date)
+            .thenComparingInt(RangeCandidate::startSlot);
+
+    private TopRangeSelector() {
+    }
+
+    /**
+     * 전체 날짜에서 겹치지 않는 Top K 범위 선택
+     *
+     * @return 순위 오름차순 (1위가 첫 번째)
+     */
+    static List<RangeCandidate> selectTopRanges(SlotAvailabilityMatrix matrix, int k, RangeScorer scorer) {
+        List<List<RangeCandidate>> perDate = new ArrayList<>();
+        for (String date : matrix.getDates()) {
+            perDate.add(selectDateTopRanges(matrix, date, k, scorer));
+        }
+        return mergeTopRanges(perDate, k);
+    }
+
+    /**
+     * 날짜별 후보 목록을 병합하여 전체 Top K 선택
+     * 크기 K의 힙(가장 낮은 순위가 head)을 유지하므로 병합 순서와 무관하게 결과가 결정적입니다.
+     */
+    static List<RangeCandidate> mergeTopRanges(List<List<RangeCandidate>> perDateCandidates, int k) {
+        PriorityQueue<RangeCandidate> heap = new PriorityQueue<>(k + 1, RANK_ORDER.reversed());
+
+        for (List<RangeCandidate> candidates : perDateCandidates) {
+            for (RangeCandidate candidate : candidates) {
+                heap.offer(candidate);
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+        }
+
+        List<RangeCandidate> result = new ArrayList<>(heap);
+        result.sort(RANK_ORDER);
+        return result;
+    }
+
+    /**
+     * 한 날짜 안에서 겹치지 않는 Top K 범위 선택
+     *
+     * 라운드마다 선택되지 않은 슬롯만으로 이루어진 모든 연속 범위를 Incremental AND로 평가하고
+     * 최고 순위 범위 하나를 선택합니다. 비트맵 버퍼 하나만 재사용하므로 범위별 할당이 없습니다.
+     *
+     * @return 순위 오름차순
+     */
+    static List<RangeCandidate> selectDateTopRanges(
+            SlotAvailabilityMatrix matrix,
+            String date,
+            int k,
+            RangeScorer scorer
+    ) {
+        SlotAvailabilityMatrix.DateSlots dateSlots = matrix.getDateSlots(date);
+        if (dateSlots.isEmpty()) {
+            return List.of();
+        }
+
+        int size = dateSlots.size();
+        boolean[] taken = new boolean[size];
+        long[] common = new long[matrix.getWordCount()];
+        List<RangeCandidate> result = new ArrayList<>(k);
+
+        for (int round = 0; round < k; round++) {
+            int bestStart = -1;
+            int bestEnd = -1;
+            int bestCount = 0;
+            long bestScore = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (taken[i]) {
+                    continue;
+                }
+
+                System.arraycopy(dateSlots.bitmapAt(i), 0, common, 0, common.length);
+                int count = SlotAvailabilityMatrix.cardinality(common);
+
+                for (int j = i; j < size; j++) {
+                    if (j > i) {
+                        // 연속이 끊기거나 이미 선택된 슬롯에 닿으면 이 시작점에서의 확장 종료
+                        if (taken[j] || dateSlots.slotAt(j) != dateSlots.slotAt(j - 1) + 1) {
+                            break;
+                        }
+                        count = SlotAvailabilityMatrix.andInPlace(common, dateSlots.bitmapAt(j));
+                    }
+
+                    // 교집합이 비어있거나 후보 조건을 잃으면 더 확장해도 의미 없음 (Early termination)
+                    if (count == 0 || !scorer.isEligible(common)) {
+                        break;
+                    }
+
+                    long score = scorer.score(common, count);
+                    if (isBetter(score, count, j - i, i, bestScore, bestCount, bestEnd - bestStart, bestStart)) {
+                        bestStart = i;
+                        bestEnd = j;
+                        bestCount = count;
+                        bestScore = score;
+                    }
+                }
+            }
+
+            if (bestStart < 0) {
+                break;
+            }
+
+            for (int p = bestStart; p <= bestEnd; p++) {
+                taken[p] = true;
+            }
+            result.add(new RangeCandidate(
+                    date,
+                    bestStart,
+                    bestEnd,
+                    dateSlots.slotAt(bestStart),
+                    dateSlots.slotAt(bestEnd),
+                    bestCount,
+                    bestScore
+            ));
+        }
+
+        return result;
+    }
+
+    /**
+     * 같은 날짜 안에서의 순위 비교: score → count → 넓이 → 시작 위치
+     */
+    private static boolean isBetter(
+            long score, int count, int width, int start,
+            long bestScore, int bestCount, int bestWidth, int bestStart
+    ) {
+        if (bestStart < 0) {
+            return true;
+        }
+        if (score != bestScore) {
+            return score > bestScore;
+        }
+        if (count != bestCount) {
+            return count > bestCount;
+        }
+        if (width != bestWidth) {
+            return width > bestWidth;
+        }
+        return start < bestStart;
+    }
+
+    /**
+     * 선택된 범위 (참여자 명단은 최종 선택된 범위에 대해서만 계산)
+     *
+     * @param startPosition DateSlots 내 시작 위치
+     * @param endPosition DateSlots 내 끝 위치
+     */
+    record RangeCandidate(
+            String date,
+            int startPosition,
+            int endPosition,
+            int startSlot,
+            int endSlot,
+            int count,
+            long score
+    ) {
+        int width() {
+            return endSlot - startSlot;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.cover.time2gather.domain.user;
+
+import com.cover.time2gather.domain.exception.BusinessException;
+import com.cover.time2gather.domain.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 사용자별 모임 목록 keyset 페이지 커서 (정렬 기준 시각, 모임 ID)
+ * 클라이언트에는 해석할 필요가 없는 문자열(Base64 URL)로 전달합니다.
+ */
+public record MeetingCursor(LocalDateTime at, Long meetingId) {
+
+    private static final String SEPARATOR = ",";
+
+    public String encode() {
+        String raw = at + SEPARATOR + meetingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (형식이 잘못되면 INVALID_REQUEST)
+     */
+    public static MeetingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new MeetingCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cover.time2gather.domain.user;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자별 모임 목록 한 페이지
+ * 다음 페이지가 없으면 nextCursor는 null
+ */
+public record MeetingPage(List<Meeting> meetings, String nextCursor) {
+
+    /**
+     * size + 1개까지 조회한 행으로 페이지 구성 (초과분이 있으면 마지막 행 기준 커서 생성)
+     */
+    static <T> MeetingPage of(List<T> rows, int size, Function<T, Meeting> toMeeting, Function<T, MeetingCursor> toCursor) {
+        boolean hasNext = rows.size() > size;
+        List<T> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<Meeting> meetings = pageRows.stream().map(toMeeting).toList();
+        String nextCursor = hasNext ? toCursor.apply(pageRows.get(size - 1)).encode() : null;
+        return new MeetingPage(meetings, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
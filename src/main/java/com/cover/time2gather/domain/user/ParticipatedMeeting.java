@@ -0,0 +1,12 @@
+package com.cover.time2gather.domain.user;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여한 모임과 마지막 참여(선택 저장) 시각
+ * 모임과 선택을 한 번의 조인 조회로 가져올 때 사용
+ */
+public record ParticipatedMeeting(Meeting meeting, LocalDateTime participatedAt) {
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
         @UniqueConstraint(name = "uk_provider_provider_id", columnNames = {"provider", "provider_id"})
     },
     indexes = {
-        @Index(name = "idx_username", columnList = "username")
+        @Index(name = "idx_username", columnList = "username"),
+        @Index(name = "idx_email", columnList = "email")
     }
 )
 @EntityListeners(AuditingEntityListener.class)
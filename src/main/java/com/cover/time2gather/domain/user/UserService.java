@@ -4,43 +4,71 @@ import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.infra.meeting.MeetingRepository;
 import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final MeetingRepository meetingRepository;
     private final MeetingUserSelectionRepository meetingUserSelectionRepository;
 
     /**
-     * 사용자가 생성한 모임 목록 조회
-     * - 최근 생성순(createdAt 기준)으로 정렬
+     * 사용자가 생성한 모임 목록 조회 (keyset 페이지)
+     * - 최근 생성순(createdAt, id 기준)으로 정렬
+     * - cursor가 없으면 첫 페이지
      */
-    public List<Meeting> getCreatedMeetings(Long userId) {
-        return meetingRepository.findByHostUserIdOrderByCreatedAtDesc(userId);
+    public MeetingPage getCreatedMeetings(Long userId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Meeting> meetings;
+        if (cursor == null || cursor.isBlank()) {
+            meetings = meetingRepository.selectCreatedByHostUserId(userId, limit);
+        } else {
+            MeetingCursor after = MeetingCursor.decode(cursor);
+            meetings = meetingRepository.selectCreatedByHostUserIdAfter(userId, after.at(), after.meetingId(), limit);
+        }
+
+        return MeetingPage.of(meetings, pageSize,
+                meeting -> meeting,
+                meeting -> new MeetingCursor(meeting.getCreatedAt(), meeting.getId()));
     }
 
     /**
-     * 사용자가 참여한 모임 목록 조회
+     * 사용자가 참여한 모임 목록 조회 (keyset 페이지)
      * - 자신이 만든 모임도 참여했다면 포함
      * - 모든 참여 일정 노출 (기간 제한 없음)
-     * - 최근 참여순(updatedAt 기준)으로 정렬
+     * - 최근 참여순(선택 updatedAt, 모임 id 기준)으로 정렬
+     * - 선택과 모임을 조인하여 한 번에 조회 (모임마다 조회하지 않음)
+     * - cursor가 없으면 첫 페이지
      */
-    public List<Meeting> getParticipatedMeetings(Long userId) {
-        return meetingUserSelectionRepository.findAllByUserId(userId)
-                .stream()
-                .sorted((s1, s2) -> s2.getUpdatedAt().compareTo(s1.getUpdatedAt())) // 최근 참여순 정렬
-                .map(selection -> meetingRepository.findById(selection.getMeetingId()).orElse(null))
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
+    public MeetingPage getParticipatedMeetings(Long userId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ParticipatedMeeting> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = meetingUserSelectionRepository.selectParticipatedMeetings(userId, limit);
+        } else {
+            MeetingCursor after = MeetingCursor.decode(cursor);
+            rows = meetingUserSelectionRepository.selectParticipatedMeetingsAfter(userId, after.at(), after.meetingId(), limit);
+        }
+
+        return MeetingPage.of(rows, pageSize,
+                ParticipatedMeeting::meeting,
+                row -> new MeetingCursor(row.participatedAt(), row.meeting().getId()));
     }
-}
 
+    private static int clampPageSize(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+}
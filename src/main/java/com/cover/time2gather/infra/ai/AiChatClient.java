@@ -1,5 +1,7 @@
 package com.cover.time2gather.infra.ai;
 
+import java.util.function.Consumer;
+
 /**
  * AI Chat Provider 추상화 인터페이스
  * OpenAI, Anthropic, Ollama 등 다양한 LLM Provider를 지원하기 위한 추상화 레이어
@@ -15,6 +17,16 @@ public interface AiChatClient {
      */
     String chat(String systemPrompt, String userInput);
 
+    /**
+     * 응답을 생성되는 대로 조각 단위로 전달 (응답이 끝날 때까지 호출 스레드에서 대기)
+     *
+     * @param systemPrompt AI의 역할과 동작 방식을 정의하는 시스템 프롬프트
+     * @param userInput 사용자가 입력한 내용
+     * @param onChunk 생성된 응답 조각을 받을 콜백 (호출 스레드에서 순서대로 호출)
+     * @return 전체 응답 텍스트
+     */
+    String chatStream(String systemPrompt, String userInput, Consumer<String> onChunk);
+
     /**
      * Provider 이름 반환
      *
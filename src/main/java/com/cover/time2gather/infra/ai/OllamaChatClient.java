@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 /**
  * Ollama (로컬 LLM) ChatClient 구현체
  *
@@ -28,8 +30,12 @@ public class OllamaChatClient implements AiChatClient {
 
     private static final String PROVIDER_NAME = "ollama";
 
-    // TODO: Ollama 실제 구현 시 아래 주석 해제
-    // private final ChatClient.Builder chatClientBuilder;
+    // TODO: Ollama 실제 구현 시 아래 주석 해제 (ChatClient는 생성 시 한 번만 만들어 재사용)
+    // private final ChatClient chatClient;
+    //
+    // public OllamaChatClient(ChatClient.Builder chatClientBuilder) {
+    //     this.chatClient = chatClientBuilder.build();
+    // }
 
     @Override
     public String chat(String systemPrompt, String userInput) {
@@ -39,7 +45,6 @@ public class OllamaChatClient implements AiChatClient {
         // TODO: 실제 Ollama 연동 구현
         // Spring AI Ollama starter 추가 후:
         //
-        // ChatClient chatClient = chatClientBuilder.build();
         // Prompt prompt = new Prompt(List.of(
         //         new SystemMessage(systemPrompt),
         //         new UserMessage(userInput)
@@ -52,6 +57,16 @@ public class OllamaChatClient implements AiChatClient {
         );
     }
 
+    /**
+     * 스트리밍 미지원: chat 결과 전체를 한 조각으로 전달 (캐시 적중 시 CachingAiChatClient와 같은 방식)
+     */
+    @Override
+    public String chatStream(String systemPrompt, String userInput, Consumer<String> onChunk) {
+        String response = chat(systemPrompt, userInput);
+        onChunk.accept(response);
+        return response;
+    }
+
     @Override
     public String getProviderName() {
         return PROVIDER_NAME;
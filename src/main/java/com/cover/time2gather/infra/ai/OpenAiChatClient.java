@@ -1,6 +1,5 @@
 package com.cover.time2gather.infra.ai;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -9,18 +8,25 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Spring AI를 활용한 OpenAI ChatClient 구현체
+ *
+ * ChatClient는 불변이고 스레드 안전하므로 생성 시 한 번만 만들어 재사용합니다.
+ * (ChatClient.Builder가 쓰는 OpenAiChatModel의 전용 HTTP 연결 풀과 타임아웃은 AiHttpClientConfig 참고)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OpenAiChatClient implements AiChatClient {
 
     private static final String PROVIDER_NAME = "openai";
 
-    private final ChatClient.Builder chatClientBuilder;
+    private final ChatClient chatClient;
+
+    public OpenAiChatClient(ChatClient.Builder chatClientBuilder) {
+        this.chatClient = chatClientBuilder.build();
+    }
 
     @Override
     public String chat(String systemPrompt, String userInput) {
@@ -28,14 +34,7 @@ public class OpenAiChatClient implements AiChatClient {
             log.info("Sending chat request to OpenAI. System prompt length: {}, User input length: {}",
                     systemPrompt.length(), userInput.length());
 
-            ChatClient chatClient = chatClientBuilder.build();
-
-            Prompt prompt = new Prompt(List.of(
-                    new SystemMessage(systemPrompt),
-                    new UserMessage(userInput)
-            ));
-
-            String response = chatClient.prompt(prompt)
+            String response = chatClient.prompt(buildPrompt(systemPrompt, userInput))
                     .call()
                     .content();
 
@@ -51,9 +50,40 @@ public class OpenAiChatClient implements AiChatClient {
         }
     }
 
+    @Override
+    public String chatStream(String systemPrompt, String userInput, Consumer<String> onChunk) {
+        try {
+            log.info("Sending streaming chat request to OpenAI. System prompt length: {}, User input length: {}",
+                    systemPrompt.length(), userInput.length());
+
+            // toIterable로 호출 스레드에서 조각을 소비 (콜백이 느려도 HTTP 수신 스레드를 막지 않음)
+            StringBuilder response = new StringBuilder();
+            for (String chunk : chatClient.prompt(buildPrompt(systemPrompt, userInput)).stream().content().toIterable()) {
+                if (chunk == null || chunk.isEmpty()) {
+                    continue;
+                }
+                response.append(chunk);
+                onChunk.accept(chunk);
+            }
+
+            log.info("Received streaming response from OpenAI. Response length: {}", response.length());
+            return response.toString();
+
+        } catch (Exception e) {
+            log.error("Failed to get streaming response from OpenAI. Error: {}", e.getMessage(), e);
+            throw new AiChatException("OpenAI API 스트리밍 호출 실패", e);
+        }
+    }
+
     @Override
     public String getProviderName() {
         return PROVIDER_NAME;
     }
-}
 
+    private Prompt buildPrompt(String systemPrompt, String userInput) {
+        return new Prompt(List.of(
+                new SystemMessage(systemPrompt),
+                new UserMessage(userInput)
+        ));
+    }
+}
@@ -0,0 +1,81 @@
+package com.cover.time2gather.infra.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * provider 호출 지연 시간을 기록하는 AiChatClient 데코레이터
+ *
+ * - ai.chat.latency{provider, mode=call|stream, outcome=success|error}: 요청부터 응답 완료까지
+ * - ai.chat.first_chunk{provider}: 스트리밍 요청부터 첫 조각까지 (연결 수립 비용이 주로 여기에 나타남)
+ * 두 지표 모두 percentile histogram을 내보냅니다.
+ */
+public class TimedAiChatClient implements AiChatClient {
+
+    private static final String LATENCY_METRIC = "ai.chat.latency";
+    private static final String FIRST_CHUNK_METRIC = "ai.chat.first_chunk";
+
+    private final AiChatClient delegate;
+    private final MeterRegistry meterRegistry;
+    private final Timer firstChunkTimer;
+
+    public TimedAiChatClient(AiChatClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.firstChunkTimer = Timer.builder(FIRST_CHUNK_METRIC)
+                .description("Time from AI streaming request to the first chunk")
+                .tag("provider", delegate.getProviderName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String chat(String systemPrompt, String userInput) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String response = delegate.chat(systemPrompt, userInput);
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(latencyTimer("call", outcome));
+        }
+    }
+
+    @Override
+    public String chatStream(String systemPrompt, String userInput, Consumer<String> onChunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean firstChunk = new AtomicBoolean(true);
+        String outcome = "error";
+        try {
+            String response = delegate.chatStream(systemPrompt, userInput, chunk -> {
+                if (firstChunk.compareAndSet(true, false)) {
+                    sample.stop(firstChunkTimer);
+                }
+                onChunk.accept(chunk);
+            });
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(latencyTimer("stream", outcome));
+        }
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    private Timer latencyTimer(String mode, String outcome) {
+        return Timer.builder(LATENCY_METRIC)
+                .description("AI provider request latency")
+                .tag("provider", delegate.getProviderName())
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import java.util.Optional;
+
+/**
+ * AI 응답 캐시 저장소
+ * 키는 provider + 시스템 프롬프트 + 사용자 입력의 해시입니다. (AiResponseCacheKey)
+ */
+public interface AiResponseCache {
+
+    Optional<String> get(String key);
+
+    void put(String key, String response);
+}
@@ -0,0 +1,30 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * AI 응답 캐시 키 생성
+ * provider, 시스템 프롬프트, 사용자 입력을 구분자(0)로 이어 SHA-256 hex로 만듭니다.
+ */
+public final class AiResponseCacheKey {
+
+    private AiResponseCacheKey() {
+    }
+
+    public static String of(String providerName, String systemPrompt, String userInput) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(providerName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(systemPrompt.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(userInput.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import com.cover.time2gather.infra.ai.AiChatClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * AI 응답 캐시를 적용한 AiChatClient 데코레이터
+ *
+ * 같은 provider에 같은 시스템 프롬프트와 사용자 입력이면 provider를 호출하지 않고 캐시된 응답을 반환합니다.
+ * (재시도, 같은 레포트 재요청 등)
+ * 스트리밍 요청이 캐시에 있으면 전체 응답을 한 조각으로 전달합니다.
+ * 빈 응답과 실패한 호출은 캐시하지 않습니다.
+ */
+@Slf4j
+public class CachingAiChatClient implements AiChatClient {
+
+    private final AiChatClient delegate;
+    private final AiResponseCache cache;
+
+    public CachingAiChatClient(AiChatClient delegate, AiResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String chat(String systemPrompt, String userInput) {
+        String key = AiResponseCacheKey.of(delegate.getProviderName(), systemPrompt, userInput);
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.info("AI response cache hit. provider={}", delegate.getProviderName());
+            return cached.get();
+        }
+
+        String response = delegate.chat(systemPrompt, userInput);
+        putIfNotBlank(key, response);
+        return response;
+    }
+
+    @Override
+    public String chatStream(String systemPrompt, String userInput, Consumer<String> onChunk) {
+        String key = AiResponseCacheKey.of(delegate.getProviderName(), systemPrompt, userInput);
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.info("AI response cache hit (stream). provider={}", delegate.getProviderName());
+            onChunk.accept(cached.get());
+            return cached.get();
+        }
+
+        String response = delegate.chatStream(systemPrompt, userInput, onChunk);
+        putIfNotBlank(key, response);
+        return response;
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    private void putIfNotBlank(String key, String response) {
+        if (response != null && !response.isBlank()) {
+            cache.put(key, response);
+        }
+    }
+}
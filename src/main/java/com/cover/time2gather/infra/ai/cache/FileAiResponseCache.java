@@ -0,0 +1,118 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 파일 AI 응답 캐시 (재시작 후에도 유지되는 디스크 계층)
+ *
+ * 키마다 파일 하나에 "만료 시각(epoch millis)\n응답"을 저장합니다.
+ * - TTL: 조회 시 만료 시각이 지났으면 파일을 삭제하고 miss로 처리
+ * - LRU: 조회할 때마다 수정 시각을 갱신하고, 저장 후 최대 항목 수를 넘으면 수정 시각이 오래된 파일부터 삭제
+ * 저장은 임시 파일을 쓴 뒤 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않습니다.
+ * 파일 I/O 실패는 캐시 miss로 취급하고 AI 호출을 막지 않습니다.
+ */
+@Slf4j
+public class FileAiResponseCache implements AiResponseCache {
+
+    private static final String SUFFIX = ".cache";
+
+    private final Path directory;
+    private final Duration ttl;
+    private final int maximumEntries;
+    private final Clock clock;
+
+    public FileAiResponseCache(Path directory, Duration ttl, int maximumEntries, Clock clock) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.maximumEntries = maximumEntries;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create AI response cache directory: " + directory, e);
+        }
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Path file = directory.resolve(key + SUFFIX);
+        try {
+            String content = Files.readString(file, StandardCharsets.UTF_8);
+            int separator = content.indexOf('\n');
+            long expiresAt = Long.parseLong(content.substring(0, separator));
+            if (expiresAt <= clock.millis()) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(clock.millis()));
+            return Optional.of(content.substring(separator + 1));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read AI response cache. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, String response) {
+        Path file = directory.resolve(key + SUFFIX);
+        try {
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            long expiresAt = clock.millis() + ttl.toMillis();
+            Files.writeString(temp, expiresAt + "\n" + response, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(clock.millis()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evictIfFull();
+        } catch (IOException e) {
+            log.warn("Failed to write AI response cache. key={}", key, e);
+        }
+    }
+
+    /**
+     * 최대 항목 수를 넘으면 최근에 사용하지 않은 파일부터 삭제
+     * 저장은 수 초 걸리는 AI 호출 뒤에만 일어나므로 디렉터리 전체를 훑어도 부담이 작습니다.
+     */
+    private void evictIfFull() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).toList();
+        }
+        if (files.size() <= maximumEntries) {
+            return;
+        }
+        files.stream()
+                .sorted(Comparator.comparingLong(FileAiResponseCache::lastModifiedMillis))
+                .limit(files.size() - maximumEntries)
+                .forEach(path -> {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        log.warn("Failed to evict AI response cache file. path={}", path, e);
+                    }
+                });
+    }
+
+    private static long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
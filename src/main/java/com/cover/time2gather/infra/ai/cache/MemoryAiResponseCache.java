@@ -0,0 +1,39 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 메모리 AI 응답 캐시 (최대 항목 수 + expire-after-write)
+ * hit/miss/eviction 지표: cache.gets, cache.evictions (cache=aiResponse)
+ */
+public class MemoryAiResponseCache implements AiResponseCache {
+
+    private static final String CACHE_NAME = "aiResponse";
+
+    private final Cache<String, String> cache;
+
+    public MemoryAiResponseCache(MeterRegistry meterRegistry, long maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public void put(String key, String response) {
+        cache.put(key, response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import java.util.Optional;
+
+/**
+ * 메모리 → 디스크 순으로 조회하는 2계층 캐시
+ * 디스크에서 찾은 응답은 메모리에 올리고, 저장은 두 계층에 모두 합니다.
+ */
+public class TieredAiResponseCache implements AiResponseCache {
+
+    private final AiResponseCache memory;
+    private final AiResponseCache disk;
+
+    public TieredAiResponseCache(AiResponseCache memory, AiResponseCache disk) {
+        this.memory = memory;
+        this.disk = disk;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Optional<String> cached = memory.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        cached = disk.get(key);
+        cached.ifPresent(response -> memory.put(key, response));
+        return cached;
+    }
+
+    @Override
+    public void put(String key, String response) {
+        memory.put(key, response);
+        disk.put(key, response);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cover.time2gather.infra.meeting;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 바이너리 코덱 공용 유틸 (varint / zigzag / 순차 읽기)
+ */
+final class BinaryIO {
+
+    private BinaryIO() {
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static final class Reader {
+        final byte[] data;
+        int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() {
+            return data[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MeetingParticipantPriorityRepository extends JpaRepository<MeetingParticipantPriority, Long> {
+
+    List<MeetingParticipantPriority> findAllByMeetingId(Long meetingId);
+
+    Optional<MeetingParticipantPriority> findByMeetingIdAndUserId(Long meetingId, Long userId);
+}
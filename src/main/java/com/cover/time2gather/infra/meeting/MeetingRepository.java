@@ -1,7 +1,13 @@
 package com.cover.time2gather.infra.meeting;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +26,33 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     List<Meeting> findByHostUserIdAndIsActiveTrue(Long hostUserId);
 
+    /**
+     * 모임 행에 쓰기 잠금 (같은 모임의 선택/집계/요약 스냅샷 변경을 직렬화)
+     * 항상 존재하는 행이므로 집계/스냅샷 행이 없는 기존 모임도 같은 잠금으로 보호됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Meeting m WHERE m.id = :id")
+    Optional<Meeting> selectByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 생성한 모임 첫 페이지 (최근 생성순, 같은 시각이면 ID 역순)
+     */
+    @Query("SELECT m FROM Meeting m WHERE m.hostUserId = :hostUserId ORDER BY m.createdAt DESC, m.id DESC")
+    List<Meeting> selectCreatedByHostUserId(@Param("hostUserId") Long hostUserId, Pageable pageable);
+
+    /**
+     * 생성한 모임 다음 페이지 (커서 (createdAt, id) 이후, keyset)
+     */
+    @Query("SELECT m FROM Meeting m WHERE m.hostUserId = :hostUserId " +
+            "AND (m.createdAt < :cursorAt OR (m.createdAt = :cursorAt AND m.id < :cursorId)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Meeting> selectCreatedByHostUserIdAfter(
+            @Param("hostUserId") Long hostUserId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
     List<Meeting> findAllByIdIn(Collection<Long> ids);
 
     List<Meeting> findAllByIdInAndIsActiveTrue(Collection<Long> ids);
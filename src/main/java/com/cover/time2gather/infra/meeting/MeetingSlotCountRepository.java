@@ -0,0 +1,22 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MeetingSlotCountRepository extends JpaRepository<MeetingSlotCount, Long> {
+
+    Optional<MeetingSlotCount> findByMeetingId(Long meetingId);
+
+    /**
+     * 동시 선택 저장 시 delta 유실을 막기 위해 집계 행에 쓰기 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM MeetingSlotCount c WHERE c.meetingId = :meetingId")
+    Optional<MeetingSlotCount> selectByMeetingIdForUpdate(@Param("meetingId") Long meetingId);
+}
@@ -0,0 +1,135 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.cover.time2gather.infra.meeting.BinaryIO.unzigzag;
+import static com.cover.time2gather.infra.meeting.BinaryIO.writeVarint;
+import static com.cover.time2gather.infra.meeting.BinaryIO.zigzag;
+
+/**
+ * 모임 요약 스냅샷 바이너리 인코딩
+ *
+ * 포맷 (v1):
+ * - byte: 포맷 버전 (1)
+ * - varint: 참여자 수 P, 이어서 P개의 userId (오름차순, 이전 ID와의 차이)
+ * - varint: 날짜 수 D
+ * - 날짜마다: varint(zigzag) epochDay, varint 슬롯 수 S,
+ *   슬롯마다 varint(zigzag) slotIndex + 참여자 비트맵 ceil(P/8) bytes (little-endian, bit i = 참여자 index i)
+ * - varint: BestSlot 수 B
+ * - BestSlot마다: varint(zigzag) epochDay, varint(zigzag) start, varint(zigzag) end, varint count, 참여자 비트맵
+ *
+ * 포맷이 바뀌면 VERSION을 올리고, 이전 버전 행은 조회 시 재계산되도록 isCurrentFormat으로 걸러냅니다.
+ */
+public final class MeetingSummaryCodec {
+
+    private static final byte VERSION = 1;
+
+    private MeetingSummaryCodec() {
+    }
+
+    public static boolean isCurrentFormat(byte[] data) {
+        return data != null && data.length > 0 && data[0] == VERSION;
+    }
+
+    public static byte[] encode(MeetingSummaryContent content) {
+        long[] participantIds = content.getParticipantIds();
+        int bitmapBytes = (participantIds.length + 7) >>> 3;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + participantIds.length * 4);
+        out.write(VERSION);
+
+        writeVarint(out, participantIds.length);
+        long previousId = 0;
+        for (long id : participantIds) {
+            writeVarint(out, id - previousId);
+            previousId = id;
+        }
+
+        Map<String, Map<Integer, long[]>> schedule = content.getSchedule();
+        writeVarint(out, schedule.size());
+        for (Map.Entry<String, Map<Integer, long[]>> dateEntry : schedule.entrySet()) {
+            writeVarint(out, zigzag(LocalDate.parse(dateEntry.getKey()).toEpochDay()));
+            writeVarint(out, dateEntry.getValue().size());
+            for (Map.Entry<Integer, long[]> slotEntry : dateEntry.getValue().entrySet()) {
+                writeVarint(out, zigzag(slotEntry.getKey()));
+                writeBitmap(out, slotEntry.getValue(), bitmapBytes);
+            }
+        }
+
+        List<MeetingSummaryContent.RangeEntry> bestSlots = content.getBestSlots();
+        writeVarint(out, bestSlots.size());
+        for (MeetingSummaryContent.RangeEntry entry : bestSlots) {
+            writeVarint(out, zigzag(LocalDate.parse(entry.date()).toEpochDay()));
+            writeVarint(out, zigzag(entry.startSlotIndex()));
+            writeVarint(out, zigzag(entry.endSlotIndex()));
+            writeVarint(out, entry.count());
+            writeBitmap(out, entry.participants(), bitmapBytes);
+        }
+
+        return out.toByteArray();
+    }
+
+    public static MeetingSummaryContent decode(byte[] data) {
+        BinaryIO.Reader reader = new BinaryIO.Reader(data);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported summary snapshot format version: " + version);
+        }
+
+        int participantCount = (int) reader.readVarint();
+        long[] participantIds = new long[participantCount];
+        long id = 0;
+        for (int i = 0; i < participantCount; i++) {
+            id += reader.readVarint();
+            participantIds[i] = id;
+        }
+        int words = MeetingSummaryContent.wordCount(participantCount);
+        int bitmapBytes = (participantCount + 7) >>> 3;
+
+        int dateCount = (int) reader.readVarint();
+        Map<String, Map<Integer, long[]>> schedule = new TreeMap<>();
+        for (int d = 0; d < dateCount; d++) {
+            String date = LocalDate.ofEpochDay(unzigzag(reader.readVarint())).toString();
+            int slotCount = (int) reader.readVarint();
+            Map<Integer, long[]> slotBitmaps = new TreeMap<>();
+            for (int s = 0; s < slotCount; s++) {
+                int slot = (int) unzigzag(reader.readVarint());
+                slotBitmaps.put(slot, readBitmap(reader, words, bitmapBytes));
+            }
+            schedule.put(date, slotBitmaps);
+        }
+
+        int bestSlotCount = (int) reader.readVarint();
+        List<MeetingSummaryContent.RangeEntry> bestSlots = new ArrayList<>(bestSlotCount);
+        for (int b = 0; b < bestSlotCount; b++) {
+            String date = LocalDate.ofEpochDay(unzigzag(reader.readVarint())).toString();
+            int start = (int) unzigzag(reader.readVarint());
+            int end = (int) unzigzag(reader.readVarint());
+            int count = (int) reader.readVarint();
+            bestSlots.add(new MeetingSummaryContent.RangeEntry(date, start, end, count, readBitmap(reader, words, bitmapBytes)));
+        }
+
+        return new MeetingSummaryContent(participantIds, schedule, bestSlots);
+    }
+
+    private static void writeBitmap(ByteArrayOutputStream out, long[] bitmap, int bitmapBytes) {
+        for (int i = 0; i < bitmapBytes; i++) {
+            out.write((int) (bitmap[i >>> 3] >>> ((i & 7) << 3)));
+        }
+    }
+
+    private static long[] readBitmap(BinaryIO.Reader reader, int words, int bitmapBytes) {
+        long[] bitmap = new long[words];
+        for (int i = 0; i < bitmapBytes; i++) {
+            bitmap[i >>> 3] |= (long) reader.readByte() << ((i & 7) << 3);
+        }
+        return bitmap;
+    }
+}
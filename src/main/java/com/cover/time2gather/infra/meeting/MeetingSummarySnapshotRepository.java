@@ -0,0 +1,33 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.MeetingSummarySnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MeetingSummarySnapshotRepository extends JpaRepository<MeetingSummarySnapshot, Long> {
+
+    Optional<MeetingSummarySnapshot> findByMeetingId(Long meetingId);
+
+    /**
+     * 동시 재작성 시 이전 계산 결과로 덮어쓰지 않도록 스냅샷 행에 쓰기 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MeetingSummarySnapshot s WHERE s.meetingId = :meetingId")
+    Optional<MeetingSummarySnapshot> selectByMeetingIdForUpdate(@Param("meetingId") Long meetingId);
+
+    /**
+     * 모임 코드로 변경 버전만 조회 (조건부 GET의 ETag 비교용, 스냅샷 내용은 읽지 않음)
+     */
+    @Query("SELECT s.version FROM MeetingSummarySnapshot s, Meeting m WHERE m.meetingCode = :meetingCode AND s.meetingId = m.id")
+    Optional<Long> selectVersionByMeetingCode(@Param("meetingCode") String meetingCode);
+
+    @Modifying
+    @Query("UPDATE MeetingSummarySnapshot s SET s.version = s.version + 1 WHERE s.meetingId = :meetingId")
+    int increaseVersion(@Param("meetingId") Long meetingId);
+}
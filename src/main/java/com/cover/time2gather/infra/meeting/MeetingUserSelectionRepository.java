@@ -1,11 +1,18 @@
 package com.cover.time2gather.infra.meeting;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.domain.user.ParticipatedMeeting;
 
 public interface MeetingUserSelectionRepository extends JpaRepository<MeetingUserSelection, Long> {
 
@@ -13,5 +20,50 @@ public interface MeetingUserSelectionRepository extends JpaRepository<MeetingUse
 
     List<MeetingUserSelection> findAllByMeetingId(Long meetingId);
 
+    boolean existsByMeetingIdAndUserId(Long meetingId, Long userId);
+
+    /**
+     * 잠금 읽기로 사용자 선택 조회 (트랜잭션 시작 시점 스냅샷이 아닌 최신 커밋 기준)
+     * 선택 변경 시 이전 선택과의 차이(delta)를 먼저 커밋된 같은 사용자의 변경 기준으로 계산하기 위해 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MeetingUserSelection s WHERE s.meetingId = :meetingId AND s.userId = :userId")
+    Optional<MeetingUserSelection> selectByMeetingIdAndUserIdForUpdate(
+            @Param("meetingId") Long meetingId,
+            @Param("userId") Long userId
+    );
+
     List<MeetingUserSelection> findAllByUserId(Long userId);
+
+    /**
+     * 잠금 읽기로 전체 선택 조회 (트랜잭션 시작 시점 스냅샷이 아닌 최신 커밋 기준)
+     * 요약 스냅샷 재작성 시 먼저 커밋된 다른 참여자의 선택이 누락되지 않도록 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM MeetingUserSelection s WHERE s.meetingId = :meetingId")
+    List<MeetingUserSelection> selectAllByMeetingIdForShare(@Param("meetingId") Long meetingId);
+
+    /**
+     * 참여한 모임 첫 페이지 (선택과 모임을 조인하여 한 번에 조회, 최근 참여순, 같은 시각이면 모임 ID 역순)
+     */
+    @Query("SELECT new com.cover.time2gather.domain.user.ParticipatedMeeting(m, s.updatedAt) " +
+            "FROM MeetingUserSelection s JOIN Meeting m ON m.id = s.meetingId " +
+            "WHERE s.userId = :userId " +
+            "ORDER BY s.updatedAt DESC, s.meetingId DESC")
+    List<ParticipatedMeeting> selectParticipatedMeetings(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 참여한 모임 다음 페이지 (커서 (updatedAt, meetingId) 이후, keyset)
+     */
+    @Query("SELECT new com.cover.time2gather.domain.user.ParticipatedMeeting(m, s.updatedAt) " +
+            "FROM MeetingUserSelection s JOIN Meeting m ON m.id = s.meetingId " +
+            "WHERE s.userId = :userId " +
+            "AND (s.updatedAt < :cursorAt OR (s.updatedAt = :cursorAt AND s.meetingId < :cursorId)) " +
+            "ORDER BY s.updatedAt DESC, s.meetingId DESC")
+    List<ParticipatedMeeting> selectParticipatedMeetingsAfter(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
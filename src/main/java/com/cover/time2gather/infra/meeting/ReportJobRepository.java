@@ -0,0 +1,54 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.ReportJob;
+import com.cover.time2gather.domain.meeting.ReportJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    /**
+     * 같은 모임의 요청/완료 처리를 직렬화하기 위해 작업 행에 쓰기 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ReportJob j WHERE j.meetingId = :meetingId")
+    Optional<ReportJob> selectByMeetingIdForUpdate(@Param("meetingId") Long meetingId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ReportJob j WHERE j.id = :id")
+    Optional<ReportJob> selectByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 실행 가능한 작업 조회 (대기 시각이 지난 PENDING + lease가 만료된 RUNNING)
+     * SKIP LOCKED(lock timeout -2)로 다른 노드가 잠근 행은 건너뛰어 노드 간 같은 작업을 중복으로 가져가지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ReportJob j " +
+            "WHERE (j.status = :pending AND j.availableAt <= :now) " +
+            "OR (j.status = :running AND j.leaseUntil < :now) " +
+            "ORDER BY j.availableAt")
+    List<ReportJob> selectClaimableForUpdate(
+            @Param("pending") ReportJobStatus pending,
+            @Param("running") ReportJobStatus running,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 상태별 작업 수 (지표용)
+     */
+    long countByStatus(ReportJobStatus status);
+
+    long countByStatusAndAttemptsGreaterThan(ReportJobStatus status, Integer attempts);
+}
@@ -0,0 +1,134 @@
+package com.cover.time2gather.infra.meeting;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.cover.time2gather.infra.meeting.BinaryIO.unzigzag;
+import static com.cover.time2gather.infra.meeting.BinaryIO.writeVarint;
+import static com.cover.time2gather.infra.meeting.BinaryIO.zigzag;
+
+/**
+ * 날짜별 슬롯 선택(Map&lt;String, int[]&gt;) 바이너리 인코딩
+ *
+ * JSON 대신 날짜 오프셋 + 슬롯 비트마스크로 저장하여 행 크기와 엔티티 로딩 비용(Jackson 파싱)을 줄입니다.
+ *
+ * 포맷 (v1):
+ * - byte: 포맷 버전 (1)
+ * - varint: 날짜 수 N
+ * - varint(zigzag): 첫 날짜의 epochDay (N > 0 인 경우)
+ * - 날짜마다 (오름차순):
+ *   - varint: 이전 날짜와의 일수 차이 (첫 날짜는 0)
+ *   - varint: 비트마스크 바이트 수 L (0 = ALL_DAY 빈 배열)
+ *   - L bytes: 슬롯 비트마스크 (little-endian, bit i = slotIndex i)
+ *
+ * 디코딩 결과는 날짜 오름차순, 슬롯 오름차순(중복 제거)입니다.
+ */
+public final class SlotSelectionCodec {
+
+    private static final byte VERSION = 1;
+
+    private SlotSelectionCodec() {
+    }
+
+    public static byte[] encode(Map<String, int[]> selections) {
+        TreeMap<LocalDate, int[]> sorted = new TreeMap<>();
+        for (Map.Entry<String, int[]> entry : selections.entrySet()) {
+            sorted.put(parseDate(entry.getKey()), entry.getValue());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 8);
+        out.write(VERSION);
+        writeVarint(out, sorted.size());
+
+        long previousEpochDay = 0;
+        boolean first = true;
+        for (Map.Entry<LocalDate, int[]> entry : sorted.entrySet()) {
+            long epochDay = entry.getKey().toEpochDay();
+            if (first) {
+                writeVarint(out, zigzag(epochDay));
+                writeVarint(out, 0);
+                first = false;
+            } else {
+                writeVarint(out, epochDay - previousEpochDay);
+            }
+            previousEpochDay = epochDay;
+
+            byte[] mask = toBitmask(entry.getValue());
+            writeVarint(out, mask.length);
+            out.write(mask, 0, mask.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    public static Map<String, int[]> decode(byte[] data) {
+        BinaryIO.Reader reader = new BinaryIO.Reader(data);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported slot selection format version: " + version);
+        }
+
+        int dateCount = (int) reader.readVarint();
+        Map<String, int[]> result = new LinkedHashMap<>(Math.max(4, dateCount * 2));
+        if (dateCount == 0) {
+            return result;
+        }
+
+        long epochDay = unzigzag(reader.readVarint());
+        for (int i = 0; i < dateCount; i++) {
+            epochDay += reader.readVarint();
+            int maskLength = (int) reader.readVarint();
+            int[] slots = fromBitmask(data, reader.position, maskLength);
+            reader.position += maskLength;
+            result.put(LocalDate.ofEpochDay(epochDay).toString(), slots);
+        }
+        return result;
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid selection date: " + date, e);
+        }
+    }
+
+    private static byte[] toBitmask(int[] slots) {
+        if (slots == null || slots.length == 0) {
+            return new byte[0];
+        }
+
+        int maxSlot = Arrays.stream(slots).max().getAsInt();
+        byte[] mask = new byte[(maxSlot >>> 3) + 1];
+        for (int slot : slots) {
+            if (slot < 0) {
+                throw new IllegalArgumentException("Invalid slot index: " + slot);
+            }
+            mask[slot >>> 3] |= (byte) (1 << (slot & 7));
+        }
+        return mask;
+    }
+
+    private static int[] fromBitmask(byte[] data, int offset, int length) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Integer.bitCount(data[offset + i] & 0xFF);
+        }
+
+        int[] slots = new int[count];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int bits = data[offset + i] & 0xFF;
+            while (bits != 0) {
+                slots[index++] = (i << 3) + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return slots;
+    }
+}
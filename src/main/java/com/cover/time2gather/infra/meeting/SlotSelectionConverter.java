@@ -0,0 +1,23 @@
+package com.cover.time2gather.infra.meeting;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * 날짜별 슬롯 선택 ↔ VARBINARY 변환 (SlotSelectionCodec)
+ */
+@Converter
+public class SlotSelectionConverter implements AttributeConverter<Map<String, int[]>, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(Map<String, int[]> attribute) {
+        return attribute == null ? null : SlotSelectionCodec.encode(attribute);
+    }
+
+    @Override
+    public Map<String, int[]> convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : SlotSelectionCodec.decode(dbData);
+    }
+}
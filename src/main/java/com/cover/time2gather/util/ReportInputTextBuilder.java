@@ -18,12 +18,26 @@ import static com.cover.time2gather.domain.meeting.constants.ReportConstants.*;
 
 /**
  * GPT 레포트 생성을 위한 입력 텍스트 빌더
+ *
+ * 압축 모드에서는 참여자별 선택을 연속 구간(HH:mm~HH:mm)으로 묶고, 선택이 같은 참여자를 한 항목으로 합치며,
+ * 섹션별 추정 토큰 수를 제한해 참여자가 많은 모임도 일정한 프롬프트 크기를 유지합니다.
  */
 public class ReportInputTextBuilder {
 
     private ReportInputTextBuilder() {
     }
 
+    /**
+     * 입력 텍스트 인코딩 옵션
+     *
+     * @param compact          참여자 선택을 구간/그룹으로 압축할지 여부
+     * @param maxSectionTokens 압축 모드에서 섹션별 최대 추정 토큰 수 (0 이하면 제한 없음)
+     */
+    public record Options(boolean compact, int maxSectionTokens) {
+
+        public static final Options VERBOSE = new Options(false, 0);
+    }
+
     public static String build(Meeting meeting, List<MeetingUserSelection> selections, Map<Long, User> userMap) {
         return build(meeting, selections, userMap, Collections.emptyList(), Collections.emptyList());
     }
@@ -35,6 +49,19 @@ public class ReportInputTextBuilder {
             List<MeetingLocation> locations,
             List<MeetingLocationSelection> locationSelections
     ) {
+        return build(meeting, selections, userMap, locations, locationSelections, Options.VERBOSE);
+    }
+
+    public static String build(
+            Meeting meeting,
+            List<MeetingUserSelection> selections,
+            Map<Long, User> userMap,
+            List<MeetingLocation> locations,
+            List<MeetingLocationSelection> locationSelections,
+            Options options
+    ) {
+        int maxSectionTokens = options.compact() ? options.maxSectionTokens() : 0;
+
         StringBuilder sb = new StringBuilder();
         sb.append(INPUT_MEETING_TITLE).append(meeting.getTitle()).append("\n");
 
@@ -51,14 +78,19 @@ public class ReportInputTextBuilder {
 
         // 장소 투표 정보 추가 (활성화된 경우에만)
         if (Boolean.TRUE.equals(meeting.getLocationVoteEnabled()) && !locations.isEmpty()) {
-            sb.append(buildLocationStatistics(meeting, locations, locationSelections, userMap));
+            sb.append(buildLocationStatistics(meeting, locations, locationSelections, userMap, maxSectionTokens));
         }
 
         // 날짜별/시간대별 집계 데이터 추가
         if (meeting.getSelectionType() == SelectionType.TIME) {
             sb.append(buildTimeRangeStatistics(selections, userMap, meeting.getIntervalMinutes()));
         } else {
-            sb.append(buildDateStatistics(selections, userMap));
+            sb.append(buildDateStatistics(selections, userMap, maxSectionTokens));
+        }
+
+        if (options.compact()) {
+            sb.append(buildCompactParticipantSelections(selections, userMap, maxSectionTokens));
+            return sb.toString();
         }
 
         sb.append(INPUT_PARTICIPANT_SELECTIONS);
@@ -103,7 +135,8 @@ public class ReportInputTextBuilder {
             Meeting meeting,
             List<MeetingLocation> locations,
             List<MeetingLocationSelection> locationSelections,
-            Map<Long, User> userMap
+            Map<Long, User> userMap,
+            int maxSectionTokens
     ) {
         StringBuilder sb = new StringBuilder();
         sb.append("📍 장소 투표 현황:\n");
@@ -138,11 +171,13 @@ public class ReportInputTextBuilder {
                 })
                 .toList();
 
+        List<String> entries = new ArrayList<>();
         for (MeetingLocation location : sortedLocations) {
             Set<Long> voterIds = locationVotes.getOrDefault(location.getId(), Collections.emptySet());
             int voteCount = voterIds.size();
 
-            sb.append("- ").append(location.getName()).append(": ").append(voteCount).append("명");
+            StringBuilder entry = new StringBuilder();
+            entry.append("- ").append(location.getName()).append(": ").append(voteCount).append("명");
 
             if (!voterIds.isEmpty()) {
                 String voterNames = voterIds.stream()
@@ -151,11 +186,15 @@ public class ReportInputTextBuilder {
                             return user != null ? user.getUsername() : UNKNOWN_USER;
                         })
                         .collect(Collectors.joining(", "));
-                sb.append(" (").append(voterNames).append(")");
+                entry.append(" (").append(voterNames).append(")");
             }
-            sb.append("\n");
+            entry.append("\n");
+            entries.add(entry.toString());
         }
 
+        int appended = appendWithinBudget(sb, entries, maxSectionTokens);
+        appendOmitted(sb, entries.size() - appended, "개 장소");
+
         sb.append("\n");
         return sb.toString();
     }
@@ -195,7 +234,8 @@ public class ReportInputTextBuilder {
      */
     private static String buildDateStatistics(
             List<MeetingUserSelection> selections,
-            Map<Long, User> userMap
+            Map<Long, User> userMap,
+            int maxSectionTokens
     ) {
         StringBuilder sb = new StringBuilder();
         sb.append("📊 Date Statistics (PRE-CALCULATED - USE THESE EXACT NUMBERS):\n");
@@ -227,25 +267,32 @@ public class ReportInputTextBuilder {
 
         // 통계 정보 출력
         int totalVoted = selections.size();
+        List<String> entries = new ArrayList<>();
         for (Map.Entry<String, Set<String>> entry : sortedDates) {
             String date = entry.getKey();
             Set<String> participants = entry.getValue();
             int availableCount = participants.size();
 
+            StringBuilder dateEntry = new StringBuilder();
             String dateWithDayOfWeek = formatDateWithDayOfWeek(date);
-            sb.append("- ").append(dateWithDayOfWeek).append(": ");
-            sb.append(availableCount).append("명 / ").append(totalVoted).append("명\n");
-            sb.append("  * 가능: ").append(String.join(", ", participants)).append("\n");
+            dateEntry.append("- ").append(dateWithDayOfWeek).append(": ");
+            dateEntry.append(availableCount).append("명 / ").append(totalVoted).append("명\n");
+            dateEntry.append("  * 가능: ").append(String.join(", ", participants)).append("\n");
 
             // 불가능한 참여자 찾기
             Set<String> notAvailable = findNotAvailableParticipants(selections, userMap, participants);
             if (notAvailable.isEmpty()) {
-                sb.append("  * 불가능: -\n");
+                dateEntry.append("  * 불가능: -\n");
             } else {
-                sb.append("  * 불가능: ").append(String.join(", ", notAvailable)).append("\n");
+                dateEntry.append("  * 불가능: ").append(String.join(", ", notAvailable)).append("\n");
             }
+            entries.add(dateEntry.toString());
         }
 
+        // 가능 인원이 많은 날짜부터 예산 안에서 출력
+        int appended = appendWithinBudget(sb, entries, maxSectionTokens);
+        appendOmitted(sb, entries.size() - appended, "개 날짜");
+
         sb.append("\n🚨 CRITICAL: Use the EXACT numbers and names from above statistics!\n");
         sb.append("DO NOT recalculate! Just copy the data to your output.\n\n");
 
@@ -379,6 +426,122 @@ public class ReportInputTextBuilder {
         return result;
     }
 
+    /**
+     * 압축 모드 참여자 선택 생성
+     * 선택 패턴이 같은 참여자를 묶고, 인원이 많은 그룹부터 예산 안에서 출력
+     */
+    private static String buildCompactParticipantSelections(
+            List<MeetingUserSelection> selections,
+            Map<Long, User> userMap,
+            int maxSectionTokens
+    ) {
+        // 선택 패턴별 참여자 (처음 등장한 순서 유지)
+        Map<String, List<String>> patternParticipants = new LinkedHashMap<>();
+        for (MeetingUserSelection selection : selections) {
+            User user = userMap.get(selection.getUserId());
+            String username = user != null ? user.getUsername() : UNKNOWN_USER;
+            patternParticipants.computeIfAbsent(encodeSelection(selection), k -> new ArrayList<>()).add(username);
+        }
+
+        List<Map.Entry<String, List<String>>> groups = new ArrayList<>(patternParticipants.entrySet());
+        groups.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
+
+        List<String> entries = groups.stream()
+                .map(group -> "- " + String.join(", ", group.getValue()) + ":\n" + group.getKey())
+                .toList();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(INPUT_PARTICIPANT_SELECTIONS_COMPACT);
+        int appended = appendWithinBudget(sb, entries, maxSectionTokens);
+        int omittedParticipants = groups.subList(appended, groups.size()).stream()
+                .mapToInt(group -> group.getValue().size())
+                .sum();
+        appendOmitted(sb, omittedParticipants, "명");
+        return sb.toString();
+    }
+
+    /**
+     * 참여자 한 명의 선택을 날짜순으로 인코딩 (그룹핑 키로도 사용)
+     * TIME: "  * 2025-12-09 (화): 14:00~17:00, 19:00~20:00"
+     * ALL_DAY: "  * 하루 종일: 2025-12-09 (화), 2025-12-10 (수)"
+     */
+    private static String encodeSelection(MeetingUserSelection selection) {
+        Map<String, int[]> sortedSelections = new TreeMap<>(selection.getSelections());
+        StringBuilder sb = new StringBuilder();
+
+        if (selection.getSelectionType() == SelectionType.ALL_DAY) {
+            if (!sortedSelections.isEmpty()) {
+                String dates = sortedSelections.keySet().stream()
+                        .map(ReportInputTextBuilder::formatDateWithDayOfWeek)
+                        .collect(Collectors.joining(", "));
+                sb.append("  * 하루 종일: ").append(dates).append("\n");
+            }
+            return sb.toString();
+        }
+
+        int intervalMinutes = selection.getIntervalMinutes();
+        for (Map.Entry<String, int[]> entry : sortedSelections.entrySet()) {
+            sb.append("  * ").append(formatDateWithDayOfWeek(entry.getKey())).append(": ")
+                    .append(encodeSlotRanges(entry.getValue(), intervalMinutes)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 연속된 슬롯을 "시작~끝" 구간으로 묶음 (끝 시각은 마지막 슬롯이 끝나는 시각)
+     * 예: [14, 15, 16, 19] (60분) -> "14:00~17:00, 19:00~20:00"
+     */
+    private static String encodeSlotRanges(int[] slots, int intervalMinutes) {
+        int[] sortedSlots = Arrays.stream(slots).sorted().distinct().toArray();
+        List<String> ranges = new ArrayList<>();
+
+        int i = 0;
+        while (i < sortedSlots.length) {
+            int start = sortedSlots[i];
+            int end = start;
+            while (i + 1 < sortedSlots.length && sortedSlots[i + 1] == end + 1) {
+                end = sortedSlots[++i];
+            }
+            ranges.add(formatMinutes(start * intervalMinutes) + "~" + formatMinutes((end + 1) * intervalMinutes));
+            i++;
+        }
+        return String.join(", ", ranges);
+    }
+
+    /**
+     * 분을 "HH:mm" 형식으로 변환 (하루의 끝은 "24:00")
+     */
+    private static String formatMinutes(int totalMinutes) {
+        return String.format("%02d:%02d", totalMinutes / 60, totalMinutes % 60);
+    }
+
+    /**
+     * 섹션 항목을 토큰 예산 안에서 순서대로 추가하고, 추가한 항목 수를 반환
+     * 예산이 0 이하면 모두 추가하며, 첫 항목은 예산을 넘더라도 추가합니다.
+     */
+    private static int appendWithinBudget(StringBuilder sb, List<String> entries, int maxTokens) {
+        int usedTokens = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            String entry = entries.get(i);
+            int tokens = TokenEstimator.estimate(entry);
+            if (maxTokens > 0 && i > 0 && usedTokens + tokens > maxTokens) {
+                return i;
+            }
+            sb.append(entry);
+            usedTokens += tokens;
+        }
+        return entries.size();
+    }
+
+    /**
+     * 예산 초과로 생략된 항목 표시
+     */
+    private static void appendOmitted(StringBuilder sb, int omittedCount, String unit) {
+        if (omittedCount > 0) {
+            sb.append("- ... 외 ").append(omittedCount).append(unit).append(" 생략 (입력 크기 제한)\n");
+        }
+    }
+
     /**
      * 불가능한 참여자 찾기
      */
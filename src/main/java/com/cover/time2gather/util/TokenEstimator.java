@@ -0,0 +1,31 @@
+package com.cover.time2gather.util;
+
+/**
+ * 프롬프트 토큰 수 추정기
+ *
+ * 토크나이저 없이 섹션 크기를 제한하기 위한 보수적인 근사치입니다.
+ * ASCII 문자는 약 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰으로 계산합니다.
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int asciiChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                asciiChars++;
+            } else {
+                otherChars++;
+            }
+        }
+        return (asciiChars + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + otherChars;
+    }
+}
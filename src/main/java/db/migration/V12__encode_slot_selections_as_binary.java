@@ -0,0 +1,153 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * V12: 날짜별 슬롯 선택 JSON 컬럼 → VARBINARY (날짜 오프셋 + 슬롯 비트마스크) 변환
+ *
+ * - meeting_user_selections.selections → selection_data
+ * - meetings.available_dates → available_date_data
+ *
+ * 비트마스크 인코딩은 SQL로 표현하기 어려워 Java 마이그레이션으로 변환합니다.
+ * 인코딩은 이 마이그레이션 시점의 SlotSelectionCodec 포맷 v1을 그대로 복사해 고정했습니다.
+ * 애플리케이션 코덱이 바뀌어도 이미 적용된 마이그레이션의 결과가 달라지지 않도록 애플리케이션 코드를 참조하지 않습니다.
+ */
+public class V12__encode_slot_selections_as_binary extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final byte FORMAT_VERSION = 1;
+    private static final TypeReference<Map<String, int[]>> SELECTIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        convertColumn(connection, "meeting_user_selections", "selections", "selection_data");
+        convertColumn(connection, "meetings", "available_dates", "available_date_data");
+    }
+
+    private void convertColumn(Connection connection, String table, String jsonColumn, String binaryColumn)
+            throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ADD COLUMN " + binaryColumn
+                    + " VARBINARY(8192) NULL AFTER " + jsonColumn);
+        }
+
+        String selectSql = "SELECT id, " + jsonColumn + " FROM " + table;
+        String updateSql = "UPDATE " + table + " SET " + binaryColumn + " = ? WHERE id = ?";
+
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(selectSql);
+             PreparedStatement update = connection.prepareStatement(updateSql)) {
+
+            int pending = 0;
+            while (rows.next()) {
+                long id = rows.getLong(1);
+                update.setBytes(1, encode(table, id, rows.getString(2)));
+                update.setLong(2, id);
+                update.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " MODIFY " + binaryColumn + " VARBINARY(8192) NOT NULL");
+            statement.execute("ALTER TABLE " + table + " DROP COLUMN " + jsonColumn);
+        }
+    }
+
+    private byte[] encode(String table, long id, String json) throws SQLException {
+        try {
+            return encodeV1(objectMapper.readValue(json, SELECTIONS_TYPE));
+        } catch (Exception e) {
+            throw new SQLException("Failed to encode " + table + ".id=" + id + ": " + json, e);
+        }
+    }
+
+    /**
+     * 슬롯 선택 포맷 v1 인코딩 (변경 금지)
+     *
+     * - byte: 포맷 버전 (1)
+     * - varint: 날짜 수 N
+     * - varint(zigzag): 첫 날짜의 epochDay (N > 0 인 경우)
+     * - 날짜마다 (오름차순): varint 일수 차이 (첫 날짜는 0), varint 비트마스크 바이트 수 L, L bytes 비트마스크
+     */
+    static byte[] encodeV1(Map<String, int[]> selections) {
+        TreeMap<LocalDate, int[]> sorted = new TreeMap<>();
+        for (Map.Entry<String, int[]> entry : selections.entrySet()) {
+            sorted.put(LocalDate.parse(entry.getKey()), entry.getValue());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 8);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, sorted.size());
+
+        long previousEpochDay = 0;
+        boolean first = true;
+        for (Map.Entry<LocalDate, int[]> entry : sorted.entrySet()) {
+            long epochDay = entry.getKey().toEpochDay();
+            if (first) {
+                writeVarint(out, (epochDay << 1) ^ (epochDay >> 63));
+                writeVarint(out, 0);
+                first = false;
+            } else {
+                writeVarint(out, epochDay - previousEpochDay);
+            }
+            previousEpochDay = epochDay;
+
+            byte[] mask = toBitmask(entry.getValue());
+            writeVarint(out, mask.length);
+            out.write(mask, 0, mask.length);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static byte[] toBitmask(int[] slots) {
+        if (slots == null || slots.length == 0) {
+            return new byte[0];
+        }
+
+        int maxSlot = Arrays.stream(slots).max().getAsInt();
+        byte[] mask = new byte[(maxSlot >>> 3) + 1];
+        for (int slot : slots) {
+            if (slot < 0) {
+                throw new IllegalArgumentException("Invalid slot index: " + slot);
+            }
+            mask[slot >>> 3] |= (byte) (1 << (slot & 7));
+        }
+        return mask;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,10 @@
+-- V10: 모임별 날짜/슬롯 선택 인원 집계 테이블
+-- 선택 저장 시 delta만 반영하여 유지 (기존 모임은 첫 선택 저장 시 전체 선택으로부터 재구성)
+CREATE TABLE meeting_slot_counts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL UNIQUE,
+    counts JSON NOT NULL COMMENT '날짜별 슬롯 선택 인원 ({"2024-02-15": {"18": 3}})',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (meeting_id) REFERENCES meetings(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
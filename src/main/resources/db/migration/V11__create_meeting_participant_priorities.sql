@@ -0,0 +1,14 @@
+-- V11: 참여자별 필수 여부/가중치 테이블
+-- 행이 없는 참여자는 필수 아님, 가중치 1로 취급
+CREATE TABLE meeting_participant_priorities (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    required BOOLEAN NOT NULL DEFAULT FALSE COMMENT '필수 참석자 여부 (빠지는 시간대는 BestSlot에서 제외)',
+    weight INT NOT NULL DEFAULT 1 COMMENT 'BestSlot 점수 가중치 (1~10)',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY unique_meeting_user_priority (meeting_id, user_id),
+    FOREIGN KEY (meeting_id) REFERENCES meetings(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,11 @@
+-- V13: 모임별 요약 스냅샷 테이블
+-- 선택/우선순위 변경 트랜잭션에서 재작성 (행이 없는 기존 모임은 첫 변경 시 생성, 그 전까지는 조회 시 계산)
+CREATE TABLE meeting_summary_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL UNIQUE,
+    version BIGINT NOT NULL COMMENT '재작성될 때마다 1씩 증가',
+    payload MEDIUMBLOB NOT NULL COMMENT '날짜/슬롯별 참여자 비트맵 + BestSlot (MeetingSummaryCodec 포맷)',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (meeting_id) REFERENCES meetings(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
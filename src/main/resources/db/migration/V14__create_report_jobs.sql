@@ -0,0 +1,19 @@
+-- V14: 레포트 생성 작업 outbox 테이블
+-- 선택 저장 트랜잭션에서 모임당 한 행을 기록하고, 워커가 SELECT ... FOR UPDATE SKIP LOCKED로 가져가 실행
+CREATE TABLE report_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, RUNNING, FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '연속 실패를 포함한 시도 횟수',
+    request_seq BIGINT NOT NULL COMMENT '생성 요청마다 1씩 증가',
+    claimed_seq BIGINT NULL COMMENT '워커가 가져갈 때의 request_seq',
+    first_requested_at DATETIME(6) NULL COMMENT '처리되지 않은 첫 요청 시각 (debounce 최대 지연 기준)',
+    available_at DATETIME(6) NOT NULL COMMENT '실행 가능 시각 (debounce/재시도 backoff)',
+    lease_owner VARCHAR(64) NULL COMMENT '실행 중인 워커 인스턴스',
+    lease_until DATETIME(6) NULL COMMENT 'lease 만료 시각 (지나면 다른 워커가 다시 가져감)',
+    last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (meeting_id) REFERENCES meetings(id) ON DELETE CASCADE,
+    INDEX idx_report_jobs_status_available (status, available_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
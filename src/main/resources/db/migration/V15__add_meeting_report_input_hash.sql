@@ -0,0 +1,3 @@
+-- V15: 레포트 생성 입력 해시 (프롬프트 템플릿 + 입력이 같으면 AI 호출 생략)
+ALTER TABLE meeting_reports
+    ADD COLUMN input_hash VARCHAR(64) NULL COMMENT '요약 생성에 사용한 프롬프트 템플릿 + 입력의 SHA-256' AFTER summary_text;
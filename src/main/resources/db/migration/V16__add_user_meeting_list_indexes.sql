@@ -0,0 +1,6 @@
+-- V16: 사용자별 모임 목록 keyset 페이지 조회 인덱스 (GET /api/v1/auth/me)
+-- 생성한 모임: host_user_id + (created_at, id) 역순
+CREATE INDEX idx_meetings_host_created ON meetings (host_user_id, created_at, id);
+
+-- 참여한 모임: user_id + (updated_at, meeting_id) 역순
+CREATE INDEX idx_selections_user_updated ON meeting_user_selections (user_id, updated_at, meeting_id);
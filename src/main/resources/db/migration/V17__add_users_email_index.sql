@@ -0,0 +1,2 @@
+-- V17: 이메일로 사용자 조회 인덱스 (MCP 도구 호출 시 인증 principal email → 사용자)
+CREATE INDEX idx_email ON users(email);
@@ -0,0 +1,171 @@
+package com.cover.time2gather.api.meeting;
+
+import com.cover.time2gather.config.JpaAuditingConfig;
+import com.cover.time2gather.domain.auth.jwt.JwtTokenService;
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingReport;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.service.CalendarExportService;
+import com.cover.time2gather.domain.meeting.service.MeetingFacadeService;
+import com.cover.time2gather.domain.meeting.service.MeetingLocationService;
+import com.cover.time2gather.domain.meeting.service.MeetingSelectionService;
+import com.cover.time2gather.domain.meeting.service.MeetingService;
+import com.cover.time2gather.domain.user.UserRepository;
+import com.cover.time2gather.infra.oauth.OidcProviderRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+    controllers = MeetingController.class,
+    excludeAutoConfiguration = JpaAuditingConfig.class
+)
+@AutoConfigureMockMvc(addFilters = false)
+class MeetingControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MeetingService meetingService;
+
+    @MockitoBean
+    private MeetingSelectionService selectionService;
+
+    @MockitoBean
+    private MeetingFacadeService meetingFacadeService;
+
+    @MockitoBean
+    private CalendarExportService calendarExportService;
+
+    @MockitoBean
+    private MeetingLocationService locationService;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private OidcProviderRegistry oidcProviderRegistry;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @Nested
+    @DisplayName("GET /api/v1/meetings/{meetingCode}")
+    class MeetingDetail {
+
+        @Test
+        @DisplayName("변경 버전이 같으면 상세 데이터를 조회하지 않고 304 반환")
+        void shouldReturnNotModifiedWithoutLoadingDetail() throws Exception {
+            // Given
+            String meetingCode = "mtg_abc123";
+            when(meetingService.getMeetingChangeVersion(meetingCode)).thenReturn(Optional.of(7L));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/meetings/{meetingCode}", meetingCode)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"7-anonymous\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-anonymous\""))
+                .andExpect(content().string(""));
+
+            verify(meetingService, never()).getMeetingDetailData(anyString(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/meetings/{meetingCode}/report")
+    class Report {
+
+        @Test
+        @DisplayName("레포트 조회 시 내용 기반 ETag를 내려주고, 같은 ETag로 다시 요청하면 304 반환")
+        void shouldReturnNotModifiedForSameReport() throws Exception {
+            // Given
+            String meetingCode = "mtg_abc123";
+            Meeting meeting = createMeeting(meetingCode);
+            MeetingReport report = MeetingReport.create(1L, "요약", null);
+            ReflectionTestUtils.setField(report, "id", 3L);
+            ReflectionTestUtils.setField(report, "updatedAt", LocalDateTime.of(2024, 2, 15, 10, 0));
+
+            when(meetingService.getMeetingByCode(meetingCode)).thenReturn(meeting);
+            when(selectionService.getMeetingReport(any())).thenReturn(report);
+
+            // When
+            String etag = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report", meetingCode))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.summaryText").value("요약"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Then
+            mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report", meetingCode)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("같은 초에 다시 생성된 레포트는 ETag가 달라 200을 반환하고, updatedAt 정밀도는 ETag에 영향을 주지 않는다")
+        void shouldChangeETagWhenRegeneratedWithinSameSecond() throws Exception {
+            // Given: 저장 직후(나노초 포함)의 레포트로 받은 ETag
+            String meetingCode = "mtg_abc123";
+            Meeting meeting = createMeeting(meetingCode);
+            MeetingReport saved = MeetingReport.create(1L, "요약", "hash-1");
+            ReflectionTestUtils.setField(saved, "id", 3L);
+            ReflectionTestUtils.setField(saved, "updatedAt", LocalDateTime.of(2024, 2, 15, 10, 0, 0, 123_456_789));
+
+            MeetingReport reloaded = MeetingReport.create(1L, "요약", "hash-1");
+            ReflectionTestUtils.setField(reloaded, "id", 3L);
+            ReflectionTestUtils.setField(reloaded, "updatedAt", LocalDateTime.of(2024, 2, 15, 10, 0));
+
+            MeetingReport regenerated = MeetingReport.create(1L, "새 요약", "hash-2");
+            ReflectionTestUtils.setField(regenerated, "id", 3L);
+            ReflectionTestUtils.setField(regenerated, "updatedAt", LocalDateTime.of(2024, 2, 15, 10, 0));
+
+            when(meetingService.getMeetingByCode(meetingCode)).thenReturn(meeting);
+            when(selectionService.getMeetingReport(any())).thenReturn(saved, reloaded, regenerated);
+
+            String etag = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report", meetingCode))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then: 초 단위로 잘린 재조회는 304, 같은 초의 재생성은 200
+            mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report", meetingCode)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report", meetingCode)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.summaryText").value("새 요약"));
+        }
+    }
+
+    private Meeting createMeeting(String meetingCode) {
+        return Meeting.create(
+            meetingCode,
+            "테스트 미팅",
+            "테스트 설명",
+            1L,
+            "Asia/Seoul",
+            SelectionType.TIME,
+            60,
+            Map.of("2024-02-15", new int[]{9, 10, 11})
+        );
+    }
+}
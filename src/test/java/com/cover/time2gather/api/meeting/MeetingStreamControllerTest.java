@@ -0,0 +1,250 @@
+package com.cover.time2gather.api.meeting;
+
+import com.cover.time2gather.api.meeting.stream.MeetingReportStreamer;
+import com.cover.time2gather.api.meeting.stream.MeetingStreamRegistry;
+import com.cover.time2gather.config.JpaAuditingConfig;
+import com.cover.time2gather.config.security.WithMockJwtUser;
+import com.cover.time2gather.domain.auth.jwt.JwtTokenService;
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.event.MeetingChange;
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
+import com.cover.time2gather.domain.meeting.service.MeetingSelectionService;
+import com.cover.time2gather.domain.meeting.service.MeetingService;
+import com.cover.time2gather.domain.meeting.service.ReportWorkerService;
+import com.cover.time2gather.domain.user.UserRepository;
+import com.cover.time2gather.infra.oauth.OidcProviderRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+    controllers = MeetingStreamController.class,
+    excludeAutoConfiguration = JpaAuditingConfig.class
+)
+@AutoConfigureMockMvc(addFilters = false)
+class MeetingStreamControllerTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeetingStreamRegistry meetingStreamRegistry;
+
+    @Autowired
+    private ManualScheduler scheduler;
+
+    @MockitoBean
+    private MeetingService meetingService;
+
+    @MockitoBean
+    private MeetingSelectionService selectionService;
+
+    @MockitoBean
+    private ReportWorkerService reportWorkerService;
+
+    @MockitoBean
+    private JwtTokenService jwtTokenService;
+
+    @MockitoBean
+    private OidcProviderRegistry oidcProviderRegistry;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        scheduler.runPending();
+    }
+
+    @Test
+    @DisplayName("구독 후 커밋된 선택 변경이 selection 이벤트로 전달된다")
+    void shouldStreamSelectionDelta() throws Exception {
+        // Given
+        String meetingCode = "mtg_stream1";
+        MvcResult result = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/stream", meetingCode))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // When
+        meetingStreamRegistry.handleMeetingChangedEvent(new MeetingChangedEvent(1L, meetingCode,
+            new MeetingChange.SelectionChanged(7L, true, Map.of("2024-02-15", Map.of(14, 1)))));
+        meetingStreamRegistry.handleMeetingChangedEvent(new MeetingChangedEvent(2L, "mtg_other",
+            new MeetingChange.LocationChanged(8L)));
+        scheduler.runPending();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:connected");
+        assertThat(body).contains("event:selection");
+        assertThat(body).contains("\"joined\":true");
+        assertThat(body).contains("\"2024-02-15\":{\"14\":1}");
+        assertThat(body).doesNotContain("event:location");
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 구독자는 쌓인 delta 대신 resync 이벤트를 받는다")
+    void shouldReplaceOverflowedBufferWithResync() throws Exception {
+        // Given: 전송 스레드가 아직 버퍼를 비우지 못한 상태
+        String meetingCode = "mtg_stream2";
+        MvcResult result = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/stream", meetingCode))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // When: connected + priority 3개로 버퍼가 가득 찬 뒤 하나 더 도착
+        for (long userId = 1; userId <= BUFFER_SIZE; userId++) {
+            meetingStreamRegistry.handleMeetingChangedEvent(new MeetingChangedEvent(1L, meetingCode,
+                new MeetingChange.PriorityChanged(userId)));
+        }
+        scheduler.runPending();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:resync");
+        assertThat(body).doesNotContain("event:connected");
+        assertThat(body).doesNotContain("event:priority");
+    }
+
+    @Test
+    @WithMockJwtUser
+    @DisplayName("레포트 스트리밍은 생성된 조각을 delta로 보내고 저장된 전체 텍스트를 done으로 보낸다")
+    void shouldStreamReportChunks() throws Exception {
+        // Given
+        given(meetingService.getMeetingByCode("mtg_report")).willReturn(createMeeting(10L, "mtg_report"));
+        given(reportWorkerService.generateReportStreaming(eq(10L), any())).willAnswer(invocation -> {
+            Consumer<String> onChunk = invocation.getArgument(1);
+            onChunk.accept("가장 많이 ");
+            onChunk.accept("겹치는 시간은");
+            return "가장 많이 겹치는 시간은";
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report/stream", "mtg_report"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:connected");
+        assertThat(body).contains("\"text\":\"가장 많이 \"");
+        assertThat(body).contains("\"text\":\"겹치는 시간은\"");
+        assertThat(body).contains("event:done");
+        assertThat(body.indexOf("event:delta")).isLessThan(body.indexOf("event:done"));
+    }
+
+    @Test
+    @WithMockJwtUser
+    @DisplayName("레포트 생성이 실패하면 error 이벤트를 보낸다")
+    void shouldSendErrorWhenReportStreamingFails() throws Exception {
+        // Given
+        given(meetingService.getMeetingByCode("mtg_report_fail")).willReturn(createMeeting(11L, "mtg_report_fail"));
+        willThrow(new IllegalStateException("AI unavailable"))
+            .given(reportWorkerService).generateReportStreaming(eq(11L), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report/stream", "mtg_report_fail"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:error");
+        assertThat(body).doesNotContain("event:done");
+    }
+
+    @Test
+    @WithMockJwtUser(userId = 2L)
+    @DisplayName("방장도 참여자도 아닌 사용자는 레포트를 생성할 수 없다")
+    void shouldRejectReportStreamingFromNonParticipant() throws Exception {
+        // Given
+        given(meetingService.getMeetingByCode("mtg_report_denied")).willReturn(createMeeting(12L, "mtg_report_denied"));
+        given(selectionService.isParticipant(12L, 2L)).willReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/meetings/{meetingCode}/report/stream", "mtg_report_denied"))
+            .andExpect(status().isForbidden());
+        verify(reportWorkerService, never()).generateReportStreaming(any(), any());
+    }
+
+    private Meeting createMeeting(Long id, String meetingCode) {
+        Meeting meeting = Meeting.create(meetingCode, "레포트", "설명", 1L, "Asia/Seoul",
+            SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{14, 15}));
+        ReflectionTestUtils.setField(meeting, "id", id);
+        return meeting;
+    }
+
+    /**
+     * execute로 전달된 전송 작업을 테스트에서 직접 실행하는 스케줄러 (전송 실행기로도 사용)
+     */
+    static class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public synchronized void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        synchronized void runPending() {
+            while (!pending.isEmpty()) {
+                pending.remove(0).run();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StreamTestConfig {
+
+        @Bean(destroyMethod = "shutdownNow")
+        ManualScheduler manualScheduler() {
+            return new ManualScheduler();
+        }
+
+        @Bean
+        MeetingStreamRegistry meetingStreamRegistry(ManualScheduler manualScheduler) {
+            return new MeetingStreamRegistry(manualScheduler, manualScheduler, Duration.ofMinutes(5), BUFFER_SIZE, Duration.ofHours(1));
+        }
+
+        /**
+         * 생성 작업을 요청 스레드에서 바로 실행
+         */
+        @Bean
+        MeetingReportStreamer meetingReportStreamer(ReportWorkerService reportWorkerService) {
+            return new MeetingReportStreamer(reportWorkerService, new TaskExecutorAdapter(Runnable::run), Duration.ofMinutes(1));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.cover.time2gather.api.meeting.stream;
+
+import com.cover.time2gather.domain.meeting.event.MeetingChange;
+import com.cover.time2gather.domain.meeting.event.MeetingChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 스트림 구독자 레지스트리 전송 테스트
+ */
+class MeetingStreamRegistryTest {
+
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final MeetingStreamRegistry registry = new MeetingStreamRegistry(
+            heartbeatScheduler, sendExecutor, Duration.ofMinutes(5), 32, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        heartbeatScheduler.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자가 있어도 다른 모임 구독자는 delta를 받는다")
+    void shouldDeliverWhileAnotherSubscriberIsBlocked() throws Exception {
+        // Given: 첫 전송(connected)부터 멈추는 구독자 2명 (heartbeat 스케줄러 스레드 수보다 많음)
+        BlockingEmitter firstBlocked = new BlockingEmitter(release);
+        BlockingEmitter secondBlocked = new BlockingEmitter(release);
+        registry.subscribe("mtg_slow1", firstBlocked);
+        registry.subscribe("mtg_slow2", secondBlocked);
+        assertThat(firstBlocked.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondBlocked.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        registry.subscribe("mtg_fast", healthy);
+
+        // When
+        registry.handleMeetingChangedEvent(new MeetingChangedEvent(1L, "mtg_fast",
+                new MeetingChange.PriorityChanged(7L)));
+
+        // Then
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).contains("event:connected");
+        assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).contains("event:priority");
+    }
+
+    /**
+     * TCP 윈도우가 가득 찬 클라이언트처럼 send에서 멈추는 emitter
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        private BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 전송된 이벤트를 기록하는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.cover.time2gather.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 레포트 생성 실행기 설정 테스트
+ */
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+
+    @Test
+    @DisplayName("virtual 모드는 작업마다 가상 스레드에서 실행한다")
+    void shouldRunOnVirtualThreadInVirtualMode() throws Exception {
+        // Given
+        AsyncTaskExecutor executor = asyncConfig.reportTaskExecutor("virtual");
+
+        // When
+        boolean virtual = executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    @DisplayName("platform 모드에서 큐가 가득 차면 호출 스레드에서 실행하지 않고 거부한다")
+    void shouldRejectInsteadOfRunningOnCallerThread() {
+        // Given
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfig.reportTaskExecutor("platform");
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try {
+            int capacity = executor.getMaxPoolSize() + executor.getQueueCapacity();
+            for (int i = 0; i < capacity; i++) {
+                executor.execute(blocking);
+            }
+
+            // When & Then
+            assertThatThrownBy(() -> executor.execute(blocking))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cover.time2gather.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 SQL 문 수 access 로그 테스트
+ */
+class SqlStatementCountFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlStatementCountFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("임계값 이하의 요청도 INFO로 sqlCount를 남긴다")
+    void shouldLogEveryRequestAtInfo() throws Exception {
+        // Given
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(30);
+
+        // When: 요청 처리 중 SQL 2개 실행
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/meetings/mtg_1"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    counter.inspect("select 1");
+                    counter.inspect("select 2");
+                });
+
+        // Then
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getFormattedMessage()).contains("GET /api/v1/meetings/mtg_1").contains("sqlCount=2");
+            assertThat(event.getMDCPropertyMap()).containsEntry(SqlStatementCountFilter.MDC_KEY, "2");
+        });
+        assertThat(MDC.get(SqlStatementCountFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("임계값을 넘은 요청은 WARN으로 남긴다")
+    void shouldWarnAboveThreshold() throws Exception {
+        // Given
+        SqlStatementCountFilter filter = new SqlStatementCountFilter(1);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/meetings/mtg_1/selections"),
+                new MockHttpServletResponse(),
+                (request, response) -> {
+                    counter.inspect("select 1");
+                    counter.inspect("update 1");
+                });
+
+        // Then
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getLevel)
+                .isEqualTo(Level.WARN);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cover.time2gather.config.security;
+
+import com.cover.time2gather.domain.user.User;
+import com.cover.time2gather.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AuthenticatedUserService authenticatedUserService;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedUserService = new AuthenticatedUserService(
+                userRepository, new SimpleMeterRegistry(), 100, Duration.ofSeconds(30));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 email principal은 TTL 동안 사용자 ID를 다시 조회하지 않는다")
+    void shouldCacheUserIdByEmail() {
+        // Given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+
+        // When
+        Long first = authenticatedUserService.getRequiredCurrentUserId();
+        Long second = authenticatedUserService.getRequiredCurrentUserId();
+
+        // Then
+        assertThat(first).isEqualTo(USER_ID);
+        assertThat(second).isEqualTo(USER_ID);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 ID 조회 후 사용자 조회는 email 조회 결과를 재사용한다")
+    void shouldReuseUserWithinRequest() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+
+        // When
+        authenticatedUserService.getRequiredCurrentUserId();
+        User user = authenticatedUserService.getRequiredCurrentUser();
+
+        // Then
+        assertThat(user.getId()).isEqualTo(USER_ID);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("email로 사용자를 찾지 못하면 캐시하지 않아 가입 직후 다시 조회된다")
+    void shouldNotCacheMissingUser() {
+        // Given
+        when(userRepository.findByEmail(EMAIL))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user()));
+
+        // When
+        Optional<Long> beforeSignUp = authenticatedUserService.getCurrentUserId();
+        Optional<Long> afterSignUp = authenticatedUserService.getCurrentUserId();
+
+        // Then
+        assertThat(beforeSignUp).isEmpty();
+        assertThat(afterSignUp).contains(USER_ID);
+    }
+
+    private User user() {
+        User user = User.builder()
+                .username("user")
+                .email(EMAIL)
+                .provider(User.AuthProvider.KAKAO)
+                .providerId("kakao_7")
+                .build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        return user;
+    }
+}
@@ -1,6 +1,7 @@
 package com.cover.time2gather.config.security;
 
 import com.cover.time2gather.domain.auth.jwt.JwtTokenService;
+import com.cover.time2gather.domain.auth.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -15,6 +16,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -48,9 +51,8 @@ class JwtAuthenticationFilterTest {
         String jwtToken = "valid-jwt-token";
         Cookie cookie = new Cookie("accessToken", jwtToken);
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
-        when(jwtTokenService.validateToken(jwtToken)).thenReturn(true);
-        when(jwtTokenService.extractUserId(jwtToken)).thenReturn(1L);
-        when(jwtTokenService.extractUsername(jwtToken)).thenReturn("testuser");
+        when(jwtTokenService.verify(jwtToken))
+                .thenReturn(Optional.of(new VerifiedToken(1L, "testuser", Instant.now().plusSeconds(60))));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -70,7 +72,7 @@ class JwtAuthenticationFilterTest {
         String jwtToken = "invalid-jwt-token";
         Cookie cookie = new Cookie("accessToken", jwtToken);
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
-        when(jwtTokenService.validateToken(jwtToken)).thenReturn(false);
+        when(jwtTokenService.verify(jwtToken)).thenReturn(Optional.empty());
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -4,6 +4,9 @@ import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -96,5 +99,20 @@ class JwtTokenServiceTest {
         assertThat(claims.get("userId", Long.class)).isEqualTo(userId);
         assertThat(claims.getSubject()).isEqualTo(username);
     }
-}
 
+    @Test
+    void shouldVerifyTokenInSingleParse() {
+        // Given
+        String token = jwtTokenService.generateToken(7L, "testuser");
+
+        // When
+        Optional<VerifiedToken> verified = jwtTokenService.verify(token);
+
+        // Then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().userId()).isEqualTo(7L);
+        assertThat(verified.get().username()).isEqualTo("testuser");
+        assertThat(verified.get().expiresAt()).isAfter(Instant.now());
+        assertThat(jwtTokenService.verify("invalid.jwt.token")).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.cover.time2gather.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 JWT 캐시 테스트
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2024-02-15T12:00:00Z");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TestTime time = new TestTime(NOW);
+    private final VerifiedTokenCache cache =
+            new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(10), time, time);
+
+    @Test
+    @DisplayName("같은 토큰은 다시 검증하지 않고 캐시된 인증 정보를 반환하며 hit ratio를 기록한다")
+    void shouldSkipVerificationOnHit() {
+        // Given
+        CountingVerifier verifier = new CountingVerifier(Optional.of(token(NOW.plusSeconds(3600))));
+
+        // When
+        Optional<VerifiedToken> first = cache.get(TOKEN, verifier);
+        Optional<VerifiedToken> second = cache.get(TOKEN, verifier);
+
+        // Then
+        assertThat(verifier.calls.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.get("jwt.verified.cache.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시 항목도 만료되어 다시 검증한다")
+    void shouldExpireWithToken() {
+        // Given
+        CountingVerifier verifier = new CountingVerifier(Optional.of(token(NOW.plusSeconds(30))));
+        cache.get(TOKEN, verifier);
+
+        // When
+        time.advance(Duration.ofSeconds(31));
+        cache.get(TOKEN, verifier);
+
+        // Then
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void shouldNotCacheFailedVerification() {
+        // Given
+        CountingVerifier verifier = new CountingVerifier(Optional.empty());
+
+        // When
+        cache.get(TOKEN, verifier);
+        Optional<VerifiedToken> result = cache.get(TOKEN, verifier);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(verifier.calls.get()).isEqualTo(2);
+    }
+
+    private static VerifiedToken token(Instant expiresAt) {
+        return new VerifiedToken(1L, "testuser", expiresAt);
+    }
+
+    private static final class CountingVerifier implements Function<String, Optional<VerifiedToken>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Optional<VerifiedToken> result;
+
+        CountingVerifier(Optional<VerifiedToken> result) {
+            this.result = result;
+        }
+
+        @Override
+        public Optional<VerifiedToken> apply(String token) {
+            calls.incrementAndGet();
+            return result;
+        }
+    }
+
+    /**
+     * 토큰 만료 계산용 Clock과 캐시 만료용 Ticker를 같은 시각으로 움직임
+     */
+    private static final class TestTime extends Clock implements Ticker {
+
+        private Instant now;
+
+        TestTime(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public long read() {
+            return Duration.between(Instant.EPOCH, now).toNanos();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.cover.time2gather.domain.meeting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레포트 생성 작업 상태 전이 테스트
+ */
+class ReportJobTest {
+
+    private static final Duration QUIET = Duration.ofSeconds(10);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(60);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 2, 15, 12, 0);
+
+    @Nested
+    @DisplayName("request")
+    class Request {
+
+        @Test
+        @DisplayName("연속 요청은 quiet-period만큼 미뤄지되 첫 요청으로부터 max-delay를 넘지 않는다")
+        void shouldDebounceWithinMaxDelay() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusSeconds(10));
+
+            // When
+            job.request(NOW.plusSeconds(5), QUIET, MAX_DELAY);
+            LocalDateTime afterSecond = job.getAvailableAt();
+            job.request(NOW.plusSeconds(55), QUIET, MAX_DELAY);
+
+            // Then
+            assertThat(afterSecond).isEqualTo(NOW.plusSeconds(15));
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusSeconds(60));
+            assertThat(job.getRequestSeq()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("재시도 대기 중인 요청은 backoff 시각을 앞당기지 않는다")
+        void shouldKeepBackoffWhileRetrying() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+            job.claim("node-a", NOW, LEASE);
+            job.fail("timeout", NOW, 5, Duration.ofMinutes(1), MAX_BACKOFF);
+
+            // When
+            job.request(NOW.plusSeconds(1), QUIET, MAX_DELAY);
+
+            // Then
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.PENDING);
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusMinutes(1));
+        }
+
+        @Test
+        @DisplayName("FAILED 작업에 새 요청이 들어오면 시도 횟수를 초기화하고 다시 대기한다")
+        void shouldResetFailedJob() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+            job.claim("node-a", NOW, LEASE);
+            job.fail("timeout", NOW, 1, BACKOFF, MAX_BACKOFF);
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+
+            // When
+            job.request(NOW.plusMinutes(10), QUIET, MAX_DELAY);
+
+            // Then
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.PENDING);
+            assertThat(job.getAttempts()).isZero();
+            assertThat(job.getLastError()).isNull();
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusMinutes(10).plusSeconds(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("claim / 완료")
+    class ClaimAndComplete {
+
+        @Test
+        @DisplayName("가져간 인스턴스만 lease를 소유하고, 실행 중 새 요청이 없으면 새 요청 없음으로 판단한다")
+        void shouldOwnLease() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+
+            // When
+            job.claim("node-a", NOW, LEASE);
+
+            // Then
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.RUNNING);
+            assertThat(job.getAttempts()).isEqualTo(1);
+            assertThat(job.getLeaseUntil()).isEqualTo(NOW.plus(LEASE));
+            assertThat(job.isLeasedBy("node-a")).isTrue();
+            assertThat(job.isLeasedBy("node-b")).isFalse();
+            assertThat(job.hasNewRequest()).isFalse();
+        }
+
+        @Test
+        @DisplayName("실행 중 새 요청이 들어오면 완료 후 다시 대기하며 새 요청의 debounce 시각을 유지한다")
+        void shouldRequeueWhenRequestedWhileRunning() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+            job.claim("node-a", NOW.plusSeconds(10), LEASE);
+            job.request(NOW.plusSeconds(20), QUIET, MAX_DELAY);
+
+            // When
+            assertThat(job.hasNewRequest()).isTrue();
+            job.requeue();
+
+            // Then
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.PENDING);
+            assertThat(job.getAttempts()).isZero();
+            assertThat(job.getLeaseOwner()).isNull();
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusSeconds(30));
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    class Fail {
+
+        @Test
+        @DisplayName("실패할 때마다 backoff가 두 배로 늘어나고 최대 시도 횟수에 도달하면 FAILED가 된다")
+        void shouldBackoffExponentiallyUntilMaxAttempts() {
+            // Given
+            ReportJob job = ReportJob.create(1L, NOW, QUIET, MAX_DELAY);
+
+            // When & Then
+            job.claim("node-a", NOW, LEASE);
+            job.fail("error", NOW, 3, BACKOFF, MAX_BACKOFF);
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusSeconds(2));
+
+            job.claim("node-a", NOW, LEASE);
+            job.fail("error", NOW, 3, BACKOFF, MAX_BACKOFF);
+            assertThat(job.getAvailableAt()).isEqualTo(NOW.plusSeconds(4));
+
+            job.claim("node-a", NOW, LEASE);
+            job.fail("error", NOW, 3, BACKOFF, MAX_BACKOFF);
+            assertThat(job.getStatus()).isEqualTo(ReportJobStatus.FAILED);
+            assertThat(job.getLeaseOwner()).isNull();
+        }
+
+        @Test
+        @DisplayName("backoff는 최대값을 넘지 않는다")
+        void shouldCapBackoff() {
+            assertThat(ReportJob.backoff(1, BACKOFF, MAX_BACKOFF)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(ReportJob.backoff(20, BACKOFF, MAX_BACKOFF)).isEqualTo(MAX_BACKOFF);
+        }
+    }
+}
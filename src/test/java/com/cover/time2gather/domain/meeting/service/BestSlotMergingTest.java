@@ -2,6 +2,7 @@ package com.cover.time2gather.domain.meeting.service;
 
 import com.cover.time2gather.domain.meeting.Meeting;
 import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.cover.time2gather.domain.meeting.MeetingParticipantPriority;
 import com.cover.time2gather.domain.meeting.MeetingUserSelection;
 import com.cover.time2gather.domain.meeting.SelectionType;
 import com.cover.time2gather.domain.user.User;
@@ -377,8 +378,220 @@ class BestSlotMergingTest {
         }
     }
 
+    @Nested
+    @DisplayName("대규모 참여자 (비트맵 word 경계)")
+    class LargeParticipants {
+
+        @Test
+        @DisplayName("64명을 넘는 참여자도 공통 참여자 수와 명단이 정확하다")
+        void shouldCountParticipantsAcrossWordBoundary() {
+            // Given: 130명 전원 14~15 선택, 짝수 ID만 16 추가 선택
+            Map<Long, User> userMap = new java.util.HashMap<>();
+            List<MeetingUserSelection> selections = new java.util.ArrayList<>();
+            for (long userId = 1; userId <= 130; userId++) {
+                userMap.put(userId, User.builder()
+                    .username("user" + userId)
+                    .provider(User.AuthProvider.ANONYMOUS)
+                    .providerId("anon_" + userId)
+                    .build());
+                int[] slots = userId % 2 == 0 ? new int[]{14, 15, 16} : new int[]{14, 15};
+                selections.add(createSelection(userId, userId, Map.of("2024-02-15", slots)));
+            }
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                timeMeeting, selections, userMap, 130);
+
+            // Then: 14~15 전원(130명) → Top1, 16 단독 짝수 ID(65명) → Top2
+            MeetingDetailData.BestSlot topSlot = summary.getBestSlots().get(0);
+            assertThat(topSlot.getStartSlotIndex()).isEqualTo(14);
+            assertThat(topSlot.getEndSlotIndex()).isEqualTo(15);
+            assertThat(topSlot.getCount()).isEqualTo(130);
+            assertThat(topSlot.getParticipants()).hasSize(130);
+
+            MeetingDetailData.BestSlot secondSlot = summary.getBestSlots().get(1);
+            assertThat(secondSlot.getStartSlotIndex()).isEqualTo(16);
+            assertThat(secondSlot.getEndSlotIndex()).isEqualTo(16);
+            assertThat(secondSlot.getCount()).isEqualTo(65);
+            assertThat(secondSlot.getParticipants())
+                .extracting(User::getUsername)
+                .allMatch(name -> Long.parseLong(name.substring(4)) % 2 == 0);
+        }
+
+        @Test
+        @DisplayName("userMap에 없는 사용자는 count와 참여자 명단에서 제외된다")
+        void shouldIgnoreUnknownUsers() {
+            // Given: userId 99는 userMap에 없음
+            Map<Long, User> userMap = Map.of(1L, user1, 2L, user2);
+            List<MeetingUserSelection> selections = List.of(
+                createSelection(1L, 1L, Map.of("2024-02-15", new int[]{14, 15})),
+                createSelection(2L, 2L, Map.of("2024-02-15", new int[]{14, 15})),
+                createSelection(3L, 99L, Map.of("2024-02-15", new int[]{14, 15, 16}))
+            );
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                timeMeeting, selections, userMap, 2);
+
+            // Then: 16은 알 수 없는 사용자만 선택했으므로 BestSlot이 아님
+            assertThat(summary.getBestSlots()).hasSize(1);
+            MeetingDetailData.BestSlot topSlot = summary.getBestSlots().get(0);
+            assertThat(topSlot.getStartSlotIndex()).isEqualTo(14);
+            assertThat(topSlot.getEndSlotIndex()).isEqualTo(15);
+            assertThat(topSlot.getCount()).isEqualTo(2);
+            assertThat(topSlot.getParticipants()).containsExactlyInAnyOrder(user1, user2);
+        }
+    }
+
+    @Nested
+    @DisplayName("날짜별 병렬 평가")
+    class ParallelEvaluation {
+
+        @Test
+        @DisplayName("병렬 평가 결과는 순차 평가 결과와 동일하다")
+        void shouldMatchSequentialResult() {
+            // Given: 80명이 5일에 걸쳐 서로 다른 패턴으로 선택
+            Map<Long, User> userMap = new java.util.HashMap<>();
+            List<MeetingUserSelection> selections = new java.util.ArrayList<>();
+            for (long userId = 1; userId <= 80; userId++) {
+                userMap.put(userId, User.builder()
+                    .username("user" + userId)
+                    .provider(User.AuthProvider.ANONYMOUS)
+                    .providerId("anon_" + userId)
+                    .build());
+                Map<String, int[]> dates = new java.util.HashMap<>();
+                for (int day = 1; day <= 5; day++) {
+                    int start = 9 + (int) ((userId * day) % 4);
+                    int end = start + 2 + (int) ((userId + day) % 3);
+                    dates.put("2024-02-1" + day, java.util.stream.IntStream.rangeClosed(start, end).toArray());
+                }
+                selections.add(createSelection(userId, userId, dates));
+            }
+
+            java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+            try {
+                // 임계값 0: 항상 병렬 평가
+                BestSlotBuilder parallelBuilder = new BestSlotBuilder(pool, 0);
+
+                // When
+                MeetingDetailData.SummaryData sequential = bestSlotBuilder.buildSummaryData(
+                    timeMeeting, selections, userMap, 80);
+                MeetingDetailData.SummaryData parallel = parallelBuilder.buildSummaryData(
+                    timeMeeting, selections, userMap, 80);
+
+                // Then
+                assertThat(parallel.getBestSlots()).hasSize(3);
+                assertThat(parallel.getBestSlots())
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(sequential.getBestSlots());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("참여자 우선순위 (필수 참석자 / 가중치)")
+    class ParticipantPriority {
+
+        @Test
+        @DisplayName("필수 참석자가 빠지는 범위는 BestSlot에서 제외된다")
+        void shouldExcludeRangesMissingRequiredParticipant() {
+            // Given: 14~15는 user1, user2 / 16~17은 user2, user3 / user3 필수
+            Map<Long, User> userMap = Map.of(1L, user1, 2L, user2, 3L, user3);
+            List<MeetingUserSelection> selections = List.of(
+                createSelection(1L, 1L, Map.of("2024-02-15", new int[]{14, 15})),
+                createSelection(2L, 2L, Map.of("2024-02-15", new int[]{14, 15, 16, 17})),
+                createSelection(3L, 3L, Map.of("2024-02-15", new int[]{16, 17}))
+            );
+            List<MeetingParticipantPriority> priorities = List.of(
+                MeetingParticipantPriority.create(1L, 3L, true, 1)
+            );
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                timeMeeting, selections, userMap, 3, priorities);
+
+            // Then: user3가 포함된 16~17만 후보
+            assertThat(summary.getBestSlots()).hasSize(1);
+            MeetingDetailData.BestSlot topSlot = summary.getBestSlots().get(0);
+            assertThat(topSlot.getStartSlotIndex()).isEqualTo(16);
+            assertThat(topSlot.getEndSlotIndex()).isEqualTo(17);
+            assertThat(topSlot.getParticipants()).containsExactlyInAnyOrder(user2, user3);
+        }
+
+        @Test
+        @DisplayName("필수 참석자가 시간을 선택하지 않았다면 BestSlot이 없다")
+        void shouldReturnEmptyWhenRequiredParticipantHasNoSelection() {
+            // Given: userId 3은 필수지만 선택 없음
+            Map<Long, User> userMap = Map.of(1L, user1, 2L, user2);
+            List<MeetingUserSelection> selections = List.of(
+                createSelection(1L, 1L, Map.of("2024-02-15", new int[]{14, 15})),
+                createSelection(2L, 2L, Map.of("2024-02-15", new int[]{14, 15}))
+            );
+            List<MeetingParticipantPriority> priorities = List.of(
+                MeetingParticipantPriority.create(1L, 3L, true, 1)
+            );
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                timeMeeting, selections, userMap, 2, priorities);
+
+            // Then
+            assertThat(summary.getBestSlots()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("가중치 합이 큰 범위가 인원수가 많은 범위보다 앞선다")
+        void shouldRankByWeightedScore() {
+            // Given: 14는 user1, user2 (점수 2) / 16은 user3 단독이지만 가중치 5 (점수 5)
+            Map<Long, User> userMap = Map.of(1L, user1, 2L, user2, 3L, user3);
+            List<MeetingUserSelection> selections = List.of(
+                createSelection(1L, 1L, Map.of("2024-02-15", new int[]{14})),
+                createSelection(2L, 2L, Map.of("2024-02-15", new int[]{14})),
+                createSelection(3L, 3L, Map.of("2024-02-15", new int[]{16}))
+            );
+            List<MeetingParticipantPriority> priorities = List.of(
+                MeetingParticipantPriority.create(1L, 3L, false, 5)
+            );
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                timeMeeting, selections, userMap, 3, priorities);
+
+            // Then
+            assertThat(summary.getBestSlots()).extracting(MeetingDetailData.BestSlot::getStartSlotIndex)
+                .containsExactly(16, 14);
+            assertThat(summary.getBestSlots().get(0).getCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ALL_DAY 타입도 필수 참석자가 빠지는 날짜는 제외된다")
+        void shouldExcludeAllDayDatesMissingRequiredParticipant() {
+            // Given: 15일은 user1, user2 / 16일은 user1 / user1, user2 모두 필수
+            Map<Long, User> userMap = Map.of(1L, user1, 2L, user2);
+            List<MeetingUserSelection> selections = List.of(
+                createSelection(1L, 1L, SelectionType.ALL_DAY,
+                    Map.of("2024-02-15", new int[]{}, "2024-02-16", new int[]{})),
+                createSelection(2L, 2L, SelectionType.ALL_DAY, Map.of("2024-02-15", new int[]{}))
+            );
+            List<MeetingParticipantPriority> priorities = List.of(
+                MeetingParticipantPriority.create(1L, 1L, true, 1),
+                MeetingParticipantPriority.create(1L, 2L, true, 1)
+            );
+
+            // When
+            MeetingDetailData.SummaryData summary = bestSlotBuilder.buildSummaryData(
+                allDayMeeting, selections, userMap, 2, priorities);
+
+            // Then
+            assertThat(summary.getBestSlots()).extracting(MeetingDetailData.BestSlot::getDate)
+                .containsExactly("2024-02-15");
+        }
+    }
+
     // Helper methods
-    
+
     private MeetingUserSelection createSelection(Long id, Long userId, Map<String, int[]> selections) {
         return createSelection(id, userId, SelectionType.TIME, selections);
     }
@@ -0,0 +1,82 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 상세 조회 캐시 테스트
+ */
+class MeetingDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeetingDetailCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MeetingDetailCache(meterRegistry, 100, Duration.ofMinutes(1));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 버전에서는 한 번만 계산하고 이후에는 캐시된 결과를 반환한다")
+    void shouldReturnCachedResultForSameVersion() {
+        // When
+        MeetingDetailData first = cache.get("mtg_a", 1L, this::load);
+        MeetingDetailData second = cache.get("mtg_a", 1L, this::load);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "meetingDetail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "meetingDetail").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 모임만 다시 계산한다")
+    void shouldReloadOnlyChangedMeeting() {
+        // Given
+        MeetingDetailData before = cache.get("mtg_a", 1L, this::load);
+        cache.get("mtg_b", 1L, this::load);
+
+        // When
+        MeetingDetailData after = cache.get("mtg_a", 2L, this::load);
+        cache.get("mtg_b", 1L, this::load);
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("요청이 읽은 버전의 결과를 반환하므로 이전 버전 요청은 새 버전 결과를 받지 않는다")
+    void shouldKeepResultPerVersion() {
+        // Given
+        MeetingDetailData oldVersion = cache.get("mtg_a", 1L, this::load);
+        MeetingDetailData newVersion = cache.get("mtg_a", 2L, this::load);
+
+        // When
+        MeetingDetailData result = cache.get("mtg_a", 1L, this::load);
+
+        // Then
+        assertThat(result).isSameAs(oldVersion).isNotSameAs(newVersion);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private MeetingDetailData load() {
+        loadCount.incrementAndGet();
+        return new MeetingDetailData(null, null, List.of(), List.of(), null, null, false);
+    }
+}
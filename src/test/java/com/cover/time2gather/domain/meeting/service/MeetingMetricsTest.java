@@ -0,0 +1,43 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 처리 지표 테스트
+ */
+class MeetingMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeetingMetrics meetingMetrics = new MeetingMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("참여자 수는 고정된 구간으로 묶인다")
+    void shouldBucketParticipantCount() {
+        assertThat(MeetingMetrics.sizeBucket(0)).isEqualTo("0");
+        assertThat(MeetingMetrics.sizeBucket(1)).isEqualTo("1-10");
+        assertThat(MeetingMetrics.sizeBucket(10)).isEqualTo("1-10");
+        assertThat(MeetingMetrics.sizeBucket(11)).isEqualTo("11-50");
+        assertThat(MeetingMetrics.sizeBucket(200)).isEqualTo("51-200");
+        assertThat(MeetingMetrics.sizeBucket(201)).isEqualTo("201+");
+    }
+
+    @Test
+    @DisplayName("단계와 모임 크기 구간 태그로 시간을 기록한다")
+    void shouldRecordStageWithSizeTag() {
+        // When
+        meetingMetrics.recordDetailStage(MeetingMetrics.DETAIL_LOAD, 30, TimeUnit.MILLISECONDS.toNanos(5));
+        meetingMetrics.recordDetailStage(MeetingMetrics.DETAIL_LOAD, 40, TimeUnit.MILLISECONDS.toNanos(7));
+
+        // Then
+        Timer timer = meterRegistry.get("meeting.detail").tags("stage", "load", "size", "11-50").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12.0);
+    }
+}
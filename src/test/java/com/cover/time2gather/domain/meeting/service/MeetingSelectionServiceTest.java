@@ -3,11 +3,14 @@ package com.cover.time2gather.domain.meeting.service;
 import com.cover.time2gather.domain.exception.BusinessException;
 import com.cover.time2gather.domain.exception.ErrorCode;
 import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
 import com.cover.time2gather.domain.meeting.MeetingUserSelection;
 import com.cover.time2gather.domain.meeting.SelectionType;
 import com.cover.time2gather.domain.user.UserRepository;
 import com.cover.time2gather.infra.meeting.MeetingReportRepository;
 import com.cover.time2gather.infra.meeting.MeetingRepository;
+import com.cover.time2gather.infra.meeting.MeetingSlotCountRepository;
 import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +23,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +51,21 @@ class MeetingSelectionServiceTest {
     @Mock
     private MeetingReportRepository reportRepository;
 
+    @Mock
+    private MeetingSlotCountRepository slotCountRepository;
+
+    @Mock
+    private MeetingSummarySnapshotService summarySnapshotService;
+
+    @Mock
+    private ReportJobService reportJobService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private MeetingMetrics meetingMetrics;
+
     @InjectMocks
     private MeetingSelectionService selectionService;
 
@@ -63,7 +84,7 @@ class MeetingSelectionServiceTest {
             Meeting confirmedMeeting = createConfirmedMeeting();
 
             when(userRepository.existsById(userId)).thenReturn(true);
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(confirmedMeeting));
+            when(meetingRepository.selectByIdForUpdate(meetingId)).thenReturn(Optional.of(confirmedMeeting));
 
             // When & Then
             assertThatThrownBy(() -> selectionService.upsertUserSelections(meetingId, userId, selections))
@@ -85,13 +106,70 @@ class MeetingSelectionServiceTest {
             Meeting meeting = createMeeting();
 
             when(userRepository.existsById(userId)).thenReturn(true);
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
-            when(selectionRepository.findByMeetingIdAndUserId(meetingId, userId)).thenReturn(Optional.empty());
+            when(meetingRepository.selectByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
+            when(selectionRepository.selectByMeetingIdAndUserIdForUpdate(meetingId, userId)).thenReturn(Optional.empty());
+            when(summarySnapshotService.applySelection(eq(meeting), any(MeetingUserSelection.class))).thenReturn(MeetingSummaryContent.empty());
 
             // When & Then - 예외 없이 실행되어야 함
             selectionService.upsertUserSelections(meetingId, userId, selections);
         }
 
+        @Test
+        @DisplayName("기존 선택 수정 시 이전 선택과의 차이만 집계에 반영")
+        void shouldApplyDeltaToSlotCountsWhenSelectionUpdated() {
+            // Given: 기존 집계 9시 2명, 10시 1명 / 사용자는 9시 → 10, 11시로 변경
+            Long meetingId = 1L;
+            Long userId = 2L;
+            Meeting meeting = createMeeting();
+            MeetingUserSelection existing = MeetingUserSelection.create(
+                meetingId, userId, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{9}));
+            MeetingSlotCount slotCount = MeetingSlotCount.rebuild(meetingId, List.of(
+                existing,
+                MeetingUserSelection.create(meetingId, 3L, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{9, 10}))
+            ));
+
+            when(userRepository.existsById(userId)).thenReturn(true);
+            when(meetingRepository.selectByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
+            when(selectionRepository.selectByMeetingIdAndUserIdForUpdate(meetingId, userId)).thenReturn(Optional.of(existing));
+            when(slotCountRepository.selectByMeetingIdForUpdate(meetingId)).thenReturn(Optional.of(slotCount));
+            when(summarySnapshotService.applySelection(eq(meeting), any(MeetingUserSelection.class))).thenReturn(MeetingSummaryContent.empty());
+
+            // When
+            selectionService.upsertUserSelections(meetingId, userId, Map.of("2024-02-15", new int[]{10, 11}));
+
+            // Then
+            assertThat(slotCount.getCount("2024-02-15", 9)).isEqualTo(1);
+            assertThat(slotCount.getCount("2024-02-15", 10)).isEqualTo(2);
+            assertThat(slotCount.getCount("2024-02-15", 11)).isEqualTo(1);
+            verify(selectionRepository, never()).selectAllByMeetingIdForShare(anyLong());
+        }
+
+        @Test
+        @DisplayName("집계 행이 없는 기존 모임은 전체 선택으로부터 집계를 재구성")
+        void shouldRebuildSlotCountsWhenMissing() {
+            // Given
+            Long meetingId = 1L;
+            Long userId = 2L;
+            Meeting meeting = createMeeting();
+            Map<String, int[]> selections = Map.of("2024-02-15", new int[]{9, 10});
+
+            when(userRepository.existsById(userId)).thenReturn(true);
+            when(meetingRepository.selectByIdForUpdate(meetingId)).thenReturn(Optional.of(meeting));
+            when(selectionRepository.selectByMeetingIdAndUserIdForUpdate(meetingId, userId)).thenReturn(Optional.empty());
+            when(slotCountRepository.selectByMeetingIdForUpdate(meetingId)).thenReturn(Optional.empty());
+            when(selectionRepository.selectAllByMeetingIdForShare(meetingId)).thenReturn(List.of(
+                MeetingUserSelection.create(meetingId, userId, SelectionType.TIME, 60, selections),
+                MeetingUserSelection.create(meetingId, 3L, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{10}))
+            ));
+            when(summarySnapshotService.applySelection(eq(meeting), any(MeetingUserSelection.class))).thenReturn(MeetingSummaryContent.empty());
+
+            // When
+            selectionService.upsertUserSelections(meetingId, userId, selections);
+
+            // Then
+            verify(slotCountRepository).save(any(MeetingSlotCount.class));
+        }
+
         private Meeting createMeeting() {
             Map<String, int[]> availableDates = Map.of(
                 "2024-02-15", new int[]{9, 10, 11},
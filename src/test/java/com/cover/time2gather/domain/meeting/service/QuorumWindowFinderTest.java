@@ -0,0 +1,188 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.MeetingSlotCount;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.QuorumWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 최소 인원 구간(Quorum) 탐색 테스트
+ * 참여자 ID는 index + 1 (A=1, B=2, ...)
+ */
+class QuorumWindowFinderTest {
+
+    private static final long[] PARTICIPANT_IDS = {1L, 2L, 3L, 4L, 5L};
+
+    @Test
+    @DisplayName("같은 N명 이상이 M개 이상 연속 슬롯 동안 모두 가능한 최대 구간만 반환한다")
+    void shouldReturnMaximalWindows() {
+        // Given: A,B,C는 14~17 모두 가능, 18은 A만, 19~20은 A,B,C,D
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(
+                14, users(0, 1, 2), 15, users(0, 1, 2, 3), 16, users(0, 1, 2),
+                17, users(0, 1, 2, 4), 18, users(0), 19, users(0, 1, 2, 3), 20, users(0, 1, 2, 3))
+        );
+
+        // When: 3명 이상, 3슬롯 이상
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 3, 3);
+
+        // Then: 19~20은 2슬롯이라 제외
+        assertThat(windows).containsExactly(new QuorumWindow("2024-02-15", 14, 17, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("슬롯마다 다른 사람이 인원을 채우면 구간으로 인정하지 않는다")
+    void shouldRequireSameAttendeesAcrossWindow() {
+        // Given: 슬롯별 인원은 모두 2명이지만 A,B → B,C → C,D로 구성이 바뀜
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(9, users(0, 1), 10, users(1, 2), 11, users(2, 3))
+        );
+
+        // When: 2명 이상, 2슬롯 이상
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 2, 2);
+
+        // Then
+        assertThat(windows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참여자 구성이 다른 최대 구간은 서로 겹쳐서 반환된다")
+    void shouldReturnOverlappingWindowsOfDifferentGroups() {
+        // Given: A,B는 9~11, B,C는 10~12
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(9, users(0, 1), 10, users(0, 1, 2), 11, users(0, 1, 2), 12, users(1, 2))
+        );
+
+        // When
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 2, 2);
+
+        // Then
+        assertThat(windows).containsExactly(
+            new QuorumWindow("2024-02-15", 9, 11, List.of(1L, 2L)),
+            new QuorumWindow("2024-02-15", 10, 12, List.of(2L, 3L))
+        );
+    }
+
+    @Test
+    @DisplayName("슬롯이 연속되지 않으면 구간이 나뉜다")
+    void shouldSplitOnGap() {
+        // Given: 11 슬롯 선택 없음
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(9, users(0, 1), 10, users(0, 1), 12, users(0, 1), 13, users(0, 1))
+        );
+
+        // When
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 2, 2);
+
+        // Then
+        assertThat(windows).extracting(QuorumWindow::startSlotIndex, QuorumWindow::endSlotIndex)
+            .containsExactly(tuple(9, 10), tuple(12, 13));
+    }
+
+    @Test
+    @DisplayName("결과는 날짜 오름차순 → 시작 슬롯 오름차순으로 정렬된다")
+    void shouldSortByDateAndStartSlot() {
+        // Given
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-16", Map.of(9, users(0, 1)),
+            "2024-02-15", Map.of(20, users(0, 1), 8, users(0, 1, 2))
+        );
+
+        // When
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 2, 1);
+
+        // Then
+        assertThat(windows).extracting(QuorumWindow::date, QuorumWindow::startSlotIndex)
+            .containsExactly(
+                tuple("2024-02-15", 8),
+                tuple("2024-02-15", 20),
+                tuple("2024-02-16", 9)
+            );
+    }
+
+    @Test
+    @DisplayName("ALL_DAY 타입은 날짜 하나를 하나의 구간으로 반환한다")
+    void shouldHandleAllDaySlot() {
+        // Given
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(MeetingSlotCount.ALL_DAY_SLOT, users(0, 3, 4)),
+            "2024-02-16", Map.of(MeetingSlotCount.ALL_DAY_SLOT, users(1))
+        );
+
+        // When
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 2, 1);
+
+        // Then
+        assertThat(windows).containsExactly(
+            new QuorumWindow("2024-02-15", MeetingSlotCount.ALL_DAY_SLOT, MeetingSlotCount.ALL_DAY_SLOT,
+                List.of(1L, 4L, 5L))
+        );
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 구간이 없으면 빈 목록을 반환한다")
+    void shouldReturnEmptyWhenNoWindowQualifies() {
+        // Given
+        Map<String, Map<Integer, long[]>> schedule = Map.of(
+            "2024-02-15", Map.of(14, users(0), 15, users(0, 1))
+        );
+
+        // When
+        List<QuorumWindow> windows = QuorumWindowFinder.find(content(schedule), 3, 1);
+
+        // Then
+        assertThat(windows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모두가 가능한 긴 구간도 슬롯 수에 선형으로 한 번만 훑는다")
+    void shouldScanLongRunLinearly() {
+        // Given: 500명 전원이 100,000개 연속 슬롯 모두 가능 (시작 슬롯마다 다시 AND하면 S² × U/64 ≈ 4 × 10^10)
+        int participants = 500;
+        int slotCount = 100_000;
+        long[] participantIds = LongStream.rangeClosed(1, participants).toArray();
+        long[] everyone = new long[(participants + 63) >>> 6];
+        for (int index = 0; index < participants; index++) {
+            everyone[index >>> 6] |= 1L << index;
+        }
+        Map<Integer, long[]> slotBitmaps = new HashMap<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            slotBitmaps.put(slot, everyone);
+        }
+        MeetingSummaryContent content =
+            new MeetingSummaryContent(participantIds, Map.of("2024-02-15", slotBitmaps), List.of());
+
+        // When
+        List<QuorumWindow> windows = assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> QuorumWindowFinder.find(content, participants, 4));
+
+        // Then
+        assertThat(windows).singleElement().satisfies(window -> {
+            assertThat(window.slotCount()).isEqualTo(slotCount);
+            assertThat(window.attendeeCount()).isEqualTo(participants);
+        });
+    }
+
+    private static MeetingSummaryContent content(Map<String, Map<Integer, long[]>> schedule) {
+        return new MeetingSummaryContent(PARTICIPANT_IDS, schedule, List.of());
+    }
+
+    private static long[] users(int... indices) {
+        long[] bitmap = new long[1];
+        for (int index : indices) {
+            bitmap[0] |= 1L << index;
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,170 @@
+package com.cover.time2gather.domain.meeting.service;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingReport;
+import com.cover.time2gather.domain.meeting.ReportData;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.client.ReportPrompt;
+import com.cover.time2gather.domain.meeting.client.ReportSummaryClient;
+import com.cover.time2gather.infra.meeting.MeetingReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportWorkerServiceTest {
+
+    private static final Long JOB_ID = 5L;
+    private static final Long MEETING_ID = 1L;
+
+    @Mock
+    private ReportSummaryClient summaryClient;
+
+    @Mock
+    private ReportJobService reportJobService;
+
+    @Mock
+    private ReportDataAggregator reportDataAggregator;
+
+    @Mock
+    private MeetingReportRepository reportRepository;
+
+    @Mock
+    private MeetingMetrics meetingMetrics;
+
+    private ReportWorkerService reportWorkerService;
+    private ReportPrompt prompt;
+
+    @BeforeEach
+    void setUp() {
+        reportWorkerService = new ReportWorkerService(
+                summaryClient, reportJobService, new Semaphore(1), reportDataAggregator, reportRepository, meetingMetrics);
+
+        Meeting meeting = Meeting.create("mtg_report", "레포트", "설명", 1L, "Asia/Seoul",
+                SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{14}));
+        ReflectionTestUtils.setField(meeting, "id", MEETING_ID);
+        ReportData reportData = new ReportData(meeting, List.of(), Map.of());
+        prompt = ReportPrompt.of(MEETING_ID, "instructions", "input");
+
+        lenient().when(reportDataAggregator.aggregate(MEETING_ID)).thenReturn(reportData);
+        lenient().when(summaryClient.buildPrompt(reportData)).thenReturn(prompt);
+    }
+
+    @Test
+    @DisplayName("이전 레포트와 입력 해시가 같으면 AI를 호출하지 않고 저장도 하지 않는다")
+    void shouldSkipWhenInputUnchanged() {
+        // Given
+        MeetingReport report = MeetingReport.create(MEETING_ID, "기존 요약", prompt.inputHash());
+        when(reportRepository.findByMeetingId(MEETING_ID)).thenReturn(Optional.of(report));
+
+        // When
+        reportWorkerService.generateReportAsync(JOB_ID, MEETING_ID, 1);
+
+        // Then
+        verify(summaryClient, never()).generateSummary(any());
+        verify(reportRepository, never()).save(any());
+        verify(reportJobService).complete(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("입력이 바뀌면 요약을 생성하고 새 입력 해시와 함께 저장한다")
+    void shouldGenerateWhenInputChanged() {
+        // Given
+        MeetingReport report = MeetingReport.create(MEETING_ID, "기존 요약",
+                ReportPrompt.of(MEETING_ID, "instructions", "old input").inputHash());
+        when(reportRepository.findByMeetingId(MEETING_ID)).thenReturn(Optional.of(report));
+        when(summaryClient.generateSummary(prompt)).thenReturn("새 요약");
+
+        // When
+        reportWorkerService.generateReportAsync(JOB_ID, MEETING_ID, 1);
+
+        // Then
+        ArgumentCaptor<MeetingReport> captor = ArgumentCaptor.forClass(MeetingReport.class);
+        verify(reportRepository).save(captor.capture());
+        assertThat(captor.getValue().getSummaryText()).isEqualTo("새 요약");
+        assertThat(captor.getValue().getInputHash()).isEqualTo(prompt.inputHash());
+        verify(reportJobService).complete(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("빈 요약은 입력 해시 없이 저장되어 같은 입력이어도 다음에 다시 생성한다")
+    void shouldNotRememberHashOfEmptySummary() {
+        // Given
+        when(reportRepository.findByMeetingId(MEETING_ID)).thenReturn(Optional.empty());
+        when(summaryClient.generateSummary(prompt)).thenReturn("");
+
+        // When
+        reportWorkerService.generateReportAsync(JOB_ID, MEETING_ID, 1);
+
+        // Then
+        ArgumentCaptor<MeetingReport> captor = ArgumentCaptor.forClass(MeetingReport.class);
+        verify(reportRepository).save(captor.capture());
+        assertThat(captor.getValue().getInputHash()).isNull();
+        assertThat(captor.getValue().isGeneratedFrom(prompt.inputHash())).isFalse();
+    }
+
+    @Test
+    @DisplayName("스트리밍 생성은 레포트 작업을 가져간 뒤 생성하고, 저장하면 작업을 완료 처리한다")
+    void shouldClaimAndCompleteJobWhenStreaming() throws Exception {
+        // Given
+        when(reportJobService.claimForStreaming(MEETING_ID)).thenReturn(Optional.of(JOB_ID));
+        when(reportRepository.findByMeetingId(MEETING_ID)).thenReturn(Optional.empty());
+        when(summaryClient.generateSummaryStream(eq(prompt), any())).thenReturn("스트리밍 요약");
+
+        // When
+        String summaryText = reportWorkerService.generateReportStreaming(MEETING_ID, chunk -> { });
+
+        // Then
+        assertThat(summaryText).isEqualTo("스트리밍 요약");
+        verify(reportRepository).save(any(MeetingReport.class));
+        verify(reportJobService).complete(JOB_ID);
+    }
+
+    @Test
+    @DisplayName("워커가 같은 모임의 레포트를 생성 중이면 스트리밍 생성은 AI를 호출하지 않고 실패한다")
+    void shouldNotStreamWhileWorkerHoldsLease() {
+        // Given
+        when(reportJobService.claimForStreaming(MEETING_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> reportWorkerService.generateReportStreaming(MEETING_ID, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(summaryClient, never()).generateSummaryStream(any(), any());
+        verify(reportRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 생성이 실패하면 워커가 다시 가져가도록 작업을 반납한다")
+    void shouldReleaseJobWhenStreamingFails() {
+        // Given
+        when(reportJobService.claimForStreaming(MEETING_ID)).thenReturn(Optional.of(JOB_ID));
+        when(reportRepository.findByMeetingId(MEETING_ID)).thenReturn(Optional.empty());
+        when(summaryClient.generateSummaryStream(eq(prompt), any()))
+                .thenThrow(new IllegalStateException("AI unavailable"));
+
+        // When & Then
+        assertThatThrownBy(() -> reportWorkerService.generateReportStreaming(MEETING_ID, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(reportJobService).release(JOB_ID);
+        verify(reportJobService, never()).complete(any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.cover.time2gather.domain.user;
+
+import com.cover.time2gather.domain.exception.BusinessException;
+import com.cover.time2gather.domain.exception.ErrorCode;
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.infra.meeting.MeetingRepository;
+import com.cover.time2gather.infra.meeting.MeetingUserSelectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 2, 15, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingUserSelectionRepository meetingUserSelectionRepository;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    @DisplayName("size보다 많이 조회되면 size개만 반환하고 마지막 모임 기준 커서를 만든다")
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        List<ParticipatedMeeting> rows = List.of(
+                new ParticipatedMeeting(meeting(30L), NOW),
+                new ParticipatedMeeting(meeting(20L), NOW.minusMinutes(1)),
+                new ParticipatedMeeting(meeting(10L), NOW.minusMinutes(2))
+        );
+        when(meetingUserSelectionRepository.selectParticipatedMeetings(USER_ID, PageRequest.of(0, 3))).thenReturn(rows);
+
+        // When
+        MeetingPage page = userService.getParticipatedMeetings(USER_ID, null, 2);
+
+        // Then
+        assertThat(page.meetings()).extracting(Meeting::getId).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(MeetingCursor.decode(page.nextCursor()))
+                .isEqualTo(new MeetingCursor(NOW.minusMinutes(1), 20L));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서의 (시각, 모임 ID) 이후를 조회하고, 남은 행이 없으면 커서를 만들지 않는다")
+    void shouldQueryAfterCursor() {
+        // Given
+        String cursor = new MeetingCursor(NOW, 20L).encode();
+        when(meetingRepository.selectCreatedByHostUserIdAfter(USER_ID, NOW, 20L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(meeting(10L)));
+
+        // When
+        MeetingPage page = userService.getCreatedMeetings(USER_ID, cursor, 2);
+
+        // Then
+        assertThat(page.meetings()).extracting(Meeting::getId).containsExactly(10L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대값으로 제한한다")
+    void shouldClampPageSize() {
+        // Given
+        when(meetingRepository.selectCreatedByHostUserId(any(), any())).thenReturn(List.of());
+
+        // When
+        userService.getCreatedMeetings(USER_ID, null, 10_000);
+
+        // Then
+        verify(meetingRepository).selectCreatedByHostUserId(USER_ID, PageRequest.of(0, UserService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_REQUEST 예외가 발생한다")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> userService.getParticipatedMeetings(USER_ID, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    private Meeting meeting(Long id) {
+        Meeting meeting = Meeting.create("mtg_" + id, "모임", null, USER_ID, "Asia/Seoul",
+                SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{9}));
+        ReflectionTestUtils.setField(meeting, "id", id);
+        ReflectionTestUtils.setField(meeting, "createdAt", NOW);
+        return meeting;
+    }
+}
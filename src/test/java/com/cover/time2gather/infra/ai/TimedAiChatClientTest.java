@@ -0,0 +1,91 @@
+package com.cover.time2gather.infra.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * provider 지연 시간 기록 데코레이터 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TimedAiChatClientTest {
+
+    @Mock
+    private AiChatClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedAiChatClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(delegate.getProviderName()).thenReturn("openai");
+        client = new TimedAiChatClient(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 provider별 success 지연 시간으로 기록된다")
+    void shouldRecordSuccessLatency() {
+        // Given
+        when(delegate.chat("system", "input")).thenReturn("응답");
+
+        // When
+        String response = client.chat("system", "input");
+
+        // Then
+        assertThat(response).isEqualTo("응답");
+        assertThat(meterRegistry.get("ai.chat.latency")
+                .tags("provider", "openai", "mode", "call", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 error로 기록하고 예외를 그대로 던진다")
+    void shouldRecordErrorLatency() {
+        // Given
+        when(delegate.chat("system", "input")).thenThrow(new AiChatException("실패"));
+
+        // When & Then
+        assertThatThrownBy(() -> client.chat("system", "input")).isInstanceOf(AiChatException.class);
+        assertThat(meterRegistry.get("ai.chat.latency")
+                .tags("provider", "openai", "mode", "call", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍은 첫 조각까지의 시간과 전체 시간을 기록하고 조각을 그대로 전달한다")
+    void shouldRecordFirstChunkLatency() {
+        // Given
+        when(delegate.chatStream(eq("system"), eq("input"), any())).thenAnswer(invocation -> {
+            Consumer<String> onChunk = invocation.getArgument(2);
+            onChunk.accept("안녕");
+            onChunk.accept("하세요");
+            return "안녕하세요";
+        });
+        List<String> chunks = new ArrayList<>();
+
+        // When
+        client.chatStream("system", "input", chunks::add);
+
+        // Then
+        assertThat(chunks).containsExactly("안녕", "하세요");
+        assertThat(meterRegistry.get("ai.chat.first_chunk").tag("provider", "openai").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.chat.latency")
+                .tags("provider", "openai", "mode", "stream", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+}
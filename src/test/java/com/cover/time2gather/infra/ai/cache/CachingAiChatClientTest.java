@@ -0,0 +1,103 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import com.cover.time2gather.infra.ai.AiChatClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 응답 캐시 데코레이터 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingAiChatClientTest {
+
+    @Mock
+    private AiChatClient delegate;
+
+    private CachingAiChatClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getProviderName()).thenReturn("openai");
+        client = new CachingAiChatClient(delegate,
+                new MemoryAiResponseCache(new SimpleMeterRegistry(), 10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트와 입력은 provider를 한 번만 호출한다")
+    void shouldReuseCachedResponse() {
+        // Given
+        when(delegate.chat("system", "input")).thenReturn("응답");
+
+        // When
+        String first = client.chat("system", "input");
+        String second = client.chat("system", "input");
+
+        // Then
+        assertThat(first).isEqualTo("응답");
+        assertThat(second).isEqualTo("응답");
+        verify(delegate, times(1)).chat("system", "input");
+    }
+
+    @Test
+    @DisplayName("입력이 다르면 캐시를 사용하지 않는다")
+    void shouldMissForDifferentInput() {
+        // Given
+        when(delegate.chat(anyString(), anyString())).thenReturn("응답");
+
+        // When
+        client.chat("system", "input-a");
+        client.chat("system", "input-b");
+
+        // Then
+        verify(delegate).chat("system", "input-a");
+        verify(delegate).chat("system", "input-b");
+    }
+
+    @Test
+    @DisplayName("빈 응답은 캐시하지 않는다")
+    void shouldNotCacheBlankResponse() {
+        // Given
+        when(delegate.chat("system", "input")).thenReturn("");
+
+        // When
+        client.chat("system", "input");
+        client.chat("system", "input");
+
+        // Then
+        verify(delegate, times(2)).chat("system", "input");
+    }
+
+    @Test
+    @DisplayName("캐시된 응답은 스트리밍 요청에 한 조각으로 전달된다")
+    void shouldServeStreamFromCache() {
+        // Given
+        when(delegate.chat("system", "input")).thenReturn("응답");
+        client.chat("system", "input");
+        List<String> chunks = new ArrayList<>();
+
+        // When
+        String result = client.chatStream("system", "input", chunks::add);
+
+        // Then
+        assertThat(result).isEqualTo("응답");
+        assertThat(chunks).containsExactly("응답");
+        verify(delegate, never()).chatStream(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.cover.time2gather.infra.ai.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 AI 응답 캐시 테스트
+ */
+class FileAiResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-02-15T12:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("저장한 응답은 새 인스턴스에서도 조회된다")
+    void shouldPersistAcrossInstances() {
+        // Given
+        new FileAiResponseCache(directory, Duration.ofHours(1), 10, clock).put("key", "첫 줄\n둘째 줄");
+
+        // When
+        FileAiResponseCache reopened = new FileAiResponseCache(directory, Duration.ofHours(1), 10, clock);
+
+        // Then
+        assertThat(reopened.get("key")).contains("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 응답은 조회되지 않는다")
+    void shouldExpireAfterTtl() {
+        // Given
+        FileAiResponseCache cache = new FileAiResponseCache(directory, Duration.ofMinutes(10), 10, clock);
+        cache.put("key", "응답");
+
+        // When
+        clock.advance(Duration.ofMinutes(10));
+
+        // Then
+        assertThat(cache.get("key")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 응답부터 삭제한다")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        FileAiResponseCache cache = new FileAiResponseCache(directory, Duration.ofHours(1), 2, clock);
+        cache.put("a", "A");
+        clock.advance(Duration.ofSeconds(1));
+        cache.put("b", "B");
+        clock.advance(Duration.ofSeconds(1));
+        cache.get("a");
+        clock.advance(Duration.ofSeconds(1));
+
+        // When
+        cache.put("c", "C");
+
+        // Then
+        assertThat(cache.get("a")).contains("A");
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains("C");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
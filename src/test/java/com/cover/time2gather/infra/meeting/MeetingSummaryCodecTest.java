@@ -0,0 +1,114 @@
+package com.cover.time2gather.infra.meeting;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingDetailData;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.service.BestSlotBuilder;
+import com.cover.time2gather.domain.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 요약 스냅샷 바이너리 인코딩 테스트
+ */
+class MeetingSummaryCodecTest {
+
+    @Test
+    @DisplayName("스냅샷을 인코딩/디코딩하면 날짜·슬롯별 참여자와 BestSlot이 그대로 복원된다")
+    void shouldRoundTripScheduleAndBestSlots() {
+        // Given: 3명 중 2명이 14~15시 공통 선택
+        Meeting meeting = Meeting.create("mtg_snapshot", "스냅샷", "설명", 1L, "Asia/Seoul",
+                SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{14, 15, 16}));
+        User user1 = createUser(10L, "김철수");
+        User user2 = createUser(20L, "이영희");
+        User user3 = createUser(300L, "박민수");
+        Map<Long, User> userMap = Map.of(10L, user1, 20L, user2, 300L, user3);
+
+        List<MeetingUserSelection> selections = List.of(
+                MeetingUserSelection.create(1L, 300L, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{16})),
+                MeetingUserSelection.create(1L, 10L, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{14, 15})),
+                MeetingUserSelection.create(1L, 20L, SelectionType.TIME, 60, Map.of("2024-02-15", new int[]{14, 15, 16}))
+        );
+        MeetingDetailData.SummaryData summary = new BestSlotBuilder()
+                .buildSummaryData(meeting, selections, userMap, selections.size());
+
+        // When
+        MeetingSummaryContent decoded = MeetingSummaryCodec.decode(
+                MeetingSummaryCodec.encode(MeetingSummaryContent.of(selections, summary)));
+
+        // Then: 참여자 ID는 오름차순
+        assertThat(decoded.getParticipantIds()).containsExactly(10L, 20L, 300L);
+        assertThat(decoded.contains(20L)).isTrue();
+        assertThat(decoded.contains(21L)).isFalse();
+
+        Map<Integer, List<User>> slots = decoded.toScheduleData(userMap).getDateTimeUserMap().get("2024-02-15");
+        assertThat(slots.get(14)).containsExactly(user1, user2);
+        assertThat(slots.get(16)).containsExactly(user2, user3);
+
+        MeetingDetailData.SummaryData restored = decoded.toSummaryData(userMap);
+        assertThat(restored.getTotalParticipants()).isEqualTo(3);
+        assertThat(restored.getBestSlots()).hasSameSizeAs(summary.getBestSlots());
+        for (int i = 0; i < restored.getBestSlots().size(); i++) {
+            MeetingDetailData.BestSlot expected = summary.getBestSlots().get(i);
+            MeetingDetailData.BestSlot actual = restored.getBestSlots().get(i);
+            assertThat(actual.getDate()).isEqualTo(expected.getDate());
+            assertThat(actual.getStartSlotIndex()).isEqualTo(expected.getStartSlotIndex());
+            assertThat(actual.getEndSlotIndex()).isEqualTo(expected.getEndSlotIndex());
+            assertThat(actual.getCount()).isEqualTo(expected.getCount());
+            assertThat(actual.getPercentage()).isEqualTo(expected.getPercentage());
+            assertThat(actual.getParticipants()).containsExactlyInAnyOrderElementsOf(expected.getParticipants());
+        }
+    }
+
+    @Test
+    @DisplayName("ALL_DAY 선택은 슬롯 -1로 복원되고, 빈 스냅샷도 복원된다")
+    void shouldRoundTripAllDayAndEmpty() {
+        // Given
+        User user = createUser(1L, "김철수");
+        List<MeetingUserSelection> selections = List.of(
+                MeetingUserSelection.create(1L, 1L, SelectionType.ALL_DAY, null, Map.of("2024-02-15", new int[]{}))
+        );
+        MeetingDetailData.SummaryData summary = new MeetingDetailData.SummaryData(1, List.of());
+
+        // When
+        MeetingSummaryContent decoded = MeetingSummaryCodec.decode(
+                MeetingSummaryCodec.encode(MeetingSummaryContent.of(selections, summary)));
+        MeetingSummaryContent empty = MeetingSummaryCodec.decode(
+                MeetingSummaryCodec.encode(MeetingSummaryContent.empty()));
+
+        // Then
+        assertThat(decoded.toScheduleData(Map.of(1L, user)).getDateTimeUserMap().get("2024-02-15").get(-1))
+                .containsExactly(user);
+        assertThat(empty.getTotalParticipants()).isZero();
+        assertThat(empty.getSchedule()).isEmpty();
+        assertThat(empty.getBestSlots()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포맷 버전이 다른 데이터는 현재 포맷으로 인정하지 않는다")
+    void shouldDetectFormatVersion() {
+        byte[] encoded = MeetingSummaryCodec.encode(MeetingSummaryContent.empty());
+
+        assertThat(MeetingSummaryCodec.isCurrentFormat(encoded)).isTrue();
+        assertThat(MeetingSummaryCodec.isCurrentFormat(new byte[]{0})).isFalse();
+        assertThat(MeetingSummaryCodec.isCurrentFormat(new byte[0])).isFalse();
+    }
+
+    private User createUser(Long id, String username) {
+        User user = User.builder()
+                .username(username)
+                .provider(User.AuthProvider.KAKAO)
+                .providerId("kakao_" + id)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package com.cover.time2gather.infra.meeting;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 날짜별 슬롯 선택 바이너리 인코딩 테스트
+ */
+class SlotSelectionCodecTest {
+
+    @Test
+    @DisplayName("TIME 타입 선택은 날짜/슬롯 오름차순으로 복원된다")
+    void shouldRoundTripTimeSelections() {
+        // Given: 순서가 섞인 날짜와 슬롯, 중복 슬롯 포함
+        Map<String, int[]> selections = new LinkedHashMap<>();
+        selections.put("2024-03-01", new int[]{95, 0, 47});
+        selections.put("2024-02-15", new int[]{19, 18, 18, 21});
+
+        // When
+        Map<String, int[]> decoded = SlotSelectionCodec.decode(SlotSelectionCodec.encode(selections));
+
+        // Then
+        assertThat(decoded.keySet()).containsExactly("2024-02-15", "2024-03-01");
+        assertThat(decoded.get("2024-02-15")).containsExactly(18, 19, 21);
+        assertThat(decoded.get("2024-03-01")).containsExactly(0, 47, 95);
+    }
+
+    @Test
+    @DisplayName("ALL_DAY 타입(빈 배열)은 빈 배열로 복원된다")
+    void shouldRoundTripAllDaySelections() {
+        // Given
+        Map<String, int[]> selections = Map.of(
+            "2024-02-15", new int[]{},
+            "2024-02-16", new int[]{}
+        );
+
+        // When
+        Map<String, int[]> decoded = SlotSelectionCodec.decode(SlotSelectionCodec.encode(selections));
+
+        // Then
+        assertThat(decoded).hasSize(2);
+        assertThat(decoded.get("2024-02-15")).isEmpty();
+        assertThat(decoded.get("2024-02-16")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("31일 선택은 JSON보다 훨씬 작게 인코딩된다")
+    void shouldBeSmallerThanJson() {
+        // Given: 60분 간격, 31일 동안 09~21시 선택
+        Map<String, int[]> selections = new LinkedHashMap<>();
+        StringBuilder json = new StringBuilder("{");
+        for (int day = 1; day <= 31; day++) {
+            String date = String.format("2024-01-%02d", day);
+            int[] slots = IntStream.rangeClosed(9, 21).toArray();
+            selections.put(date, slots);
+            json.append('"').append(date).append("\":").append(Arrays.toString(slots)).append(',');
+        }
+
+        // When
+        byte[] encoded = SlotSelectionCodec.encode(selections);
+
+        // Then: 날짜당 5바이트 (일수 차이 1 + 길이 1 + 마스크 3) + 헤더
+        assertThat(encoded.length).isLessThan(json.length() / 10);
+    }
+
+    @Test
+    @DisplayName("yyyy-MM-dd 형식이 아닌 날짜는 인코딩할 수 없다")
+    void shouldRejectInvalidDate() {
+        assertThatThrownBy(() -> SlotSelectionCodec.encode(Map.of("2024/02/15", new int[]{1})))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cover.time2gather.integration;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingSummaryContent;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.service.MeetingFacadeService;
+import com.cover.time2gather.domain.meeting.service.MeetingSelectionService;
+import com.cover.time2gather.domain.meeting.service.MeetingService;
+import com.cover.time2gather.domain.meeting.service.MeetingSummarySnapshotService;
+import com.cover.time2gather.domain.user.User;
+import com.cover.time2gather.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 모임에 처음 참여하는 사용자들의 동시 선택 저장 통합 테스트
+ * 각 저장이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않고, 전용 인메모리 DB를 사용합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:concurrent-selection;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class ConcurrentSelectionIntegrationTest {
+
+    private static final int PARTICIPANT_COUNT = 8;
+    private static final String DATE = "2024-02-15";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingFacadeService meetingFacadeService;
+
+    @Autowired
+    private MeetingSelectionService meetingSelectionService;
+
+    @Autowired
+    private MeetingSummarySnapshotService summarySnapshotService;
+
+    @Test
+    @DisplayName("처음 참여하는 사용자들이 동시에 선택을 저장해도 모두 커밋되고 집계와 요약 스냅샷에 빠짐없이 반영된다")
+    void concurrentFirstJoins() throws Exception {
+        // Given
+        User host = saveUser("host");
+        Meeting meeting = meetingService.createMeeting(host.getId(), "동시 참여", "설명", "Asia/Seoul",
+                SelectionType.TIME, 60, Map.of(DATE, new int[]{9, 10, 11}));
+
+        List<User> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            participants.add(saveUser("participant" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(PARTICIPANT_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (User participant : participants) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    meetingFacadeService.upsertUserSelections(meeting.getMeetingCode(), participant.getId(),
+                            Map.of(DATE, new int[]{9, 10}));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        Map<String, Map<Integer, Integer>> slotCounts = meetingSelectionService.getSlotCounts(meeting.getId());
+        assertThat(slotCounts.get(DATE))
+                .containsEntry(9, PARTICIPANT_COUNT)
+                .containsEntry(10, PARTICIPANT_COUNT);
+
+        MeetingSummaryContent content = summarySnapshotService.getContent(meeting);
+        assertThat(content.getParticipantIdList())
+                .containsExactlyInAnyOrderElementsOf(participants.stream().map(User::getId).toList());
+        assertThat(content.getBestSlots().get(0).count()).isEqualTo(PARTICIPANT_COUNT);
+    }
+
+    private User saveUser(String name) {
+        String id = UUID.randomUUID().toString();
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "-" + id + "@example.com")
+                .provider(User.AuthProvider.KAKAO)
+                .providerId(id)
+                .build());
+    }
+}
@@ -0,0 +1,49 @@
+package com.cover.time2gather.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus scrape 엔드포인트 인증 통합 테스트
+ */
+@SpringBootTest(properties = {
+        "metrics.scrape.username=scraper",
+        "metrics.scrape.password=scrape-secret"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrometheusEndpointSecurityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("인증 없이 /prometheus를 요청하면 401을 반환한다")
+    void shouldRejectAnonymousScrape() throws Exception {
+        mockMvc.perform(get("/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 401을 반환한다")
+    void shouldRejectWrongPassword() throws Exception {
+        mockMvc.perform(get("/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("scrape 계정으로 요청하면 지표를 반환한다")
+    void shouldAllowScrapeUser() throws Exception {
+        mockMvc.perform(get("/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,198 @@
+package com.cover.time2gather.integration;
+
+import com.cover.time2gather.api.mcp.McpMeetingTools;
+import com.cover.time2gather.config.SqlStatementCounter;
+import com.cover.time2gather.domain.auth.jwt.JwtTokenService;
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.meeting.service.MeetingFacadeService;
+import com.cover.time2gather.domain.meeting.service.MeetingService;
+import com.cover.time2gather.domain.user.User;
+import com.cover.time2gather.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 수 상한 통합 테스트
+ * 참여자/참여 모임 수를 상한보다 크게 만들어, 행마다 조회하는 회귀(N+1)가 생기면 상한을 넘도록 합니다.
+ * 측정 전후로 영속성 컨텍스트를 비워 1차 캐시가 조회를 가리지 않게 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class SqlStatementCountIntegrationTest {
+
+    private static final int PARTICIPANT_COUNT = 8;
+    private static final String DATE = "2024-02-15";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingFacadeService meetingFacadeService;
+
+    @Autowired
+    private McpMeetingTools mcpMeetingTools;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    private User host;
+    private User member;
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        host = saveUser("host");
+        member = saveUser("member");
+        meeting = createMeeting();
+
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            User participant = saveUser("participant" + i);
+            meetingFacadeService.upsertUserSelections(meeting.getMeetingCode(), participant.getId(),
+                    Map.of(DATE, new int[]{9, 10}));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/meetings/{code}는 참여자 수와 무관하게 8개 이하의 SQL을 실행한다")
+    void meetingDetail() throws Exception {
+        assertMaxStatements(8, () ->
+                mockMvc.perform(get("/api/v1/meetings/{meetingCode}", meeting.getMeetingCode()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.participants.length()").value(PARTICIPANT_COUNT)));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/meetings/{code}/selections는 참여자 수와 무관하게 20개 이하의 SQL을 실행한다")
+    void upsertSelections() throws Exception {
+        String body = """
+                {"selections": [{"date": "%s", "type": "TIME", "times": ["09:00", "11:00"]}]}
+                """.formatted(DATE);
+
+        assertMaxStatements(20, () ->
+                mockMvc.perform(put("/api/v1/meetings/{meetingCode}/selections", meeting.getMeetingCode())
+                                .cookie(accessTokenCookie(member))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/auth/me는 참여한 모임 수와 무관하게 6개 이하의 SQL을 실행한다")
+    void currentUser() throws Exception {
+        List<Meeting> participated = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            Meeting other = createMeeting();
+            meetingFacadeService.upsertUserSelections(other.getMeetingCode(), member.getId(), Map.of(DATE, new int[]{9}));
+            participated.add(other);
+        }
+
+        assertMaxStatements(6, () ->
+                mockMvc.perform(get("/api/v1/auth/me").cookie(accessTokenCookie(member)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.participatedMeetings.length()").value(participated.size())));
+    }
+
+    @Test
+    @DisplayName("MCP get_meeting은 참여자 수와 무관하게 6개 이하의 SQL을 실행한다")
+    void mcpGetMeeting() throws Exception {
+        assertMaxStatements(6, () -> {
+            McpMeetingTools.MeetingDetailResponse response = mcpMeetingTools.getMeeting(meeting.getMeetingCode());
+            assertThat(response).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("MCP vote_time은 참여자 수와 무관하게 20개 이하의 SQL을 실행한다")
+    void mcpVoteTime() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member.getEmail(), null, List.of()));
+
+        assertMaxStatements(20, () -> {
+            McpMeetingTools.VoteResponse response = mcpMeetingTools.voteTime(meeting.getMeetingCode(), DATE + ":09:00,11:00");
+            assertThat(response.success()).isTrue();
+        });
+    }
+
+    /**
+     * action이 실행한 SQL 문 수가 max 이하인지 검증
+     * 쓰기 지연된 문까지 세도록 action 뒤에 flush합니다.
+     */
+    private void assertMaxStatements(int max, SqlAction action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        long before = SqlStatementCounter.current();
+        action.run();
+        entityManager.flush();
+        long count = SqlStatementCounter.current() - before;
+
+        assertThat(count)
+                .as("SQL statement count")
+                .isLessThanOrEqualTo(max);
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws Exception;
+    }
+
+    private User saveUser(String name) {
+        String id = UUID.randomUUID().toString();
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "-" + id + "@example.com")
+                .provider(User.AuthProvider.KAKAO)
+                .providerId(id)
+                .build());
+    }
+
+    private Meeting createMeeting() {
+        return meetingService.createMeeting(host.getId(), "SQL 문 수", "설명", "Asia/Seoul",
+                SelectionType.TIME, 60, Map.of(DATE, new int[]{9, 10, 11}));
+    }
+
+    private Cookie accessTokenCookie(User user) {
+        return new Cookie("accessToken", jwtTokenService.generateToken(user.getId(), user.getUsername()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.cover.time2gather.util;
+
+import com.cover.time2gather.domain.meeting.Meeting;
+import com.cover.time2gather.domain.meeting.MeetingUserSelection;
+import com.cover.time2gather.domain.meeting.SelectionType;
+import com.cover.time2gather.domain.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.cover.time2gather.domain.meeting.constants.ReportConstants.INPUT_PARTICIPANT_SELECTIONS_COMPACT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReportInputTextBuilder - 압축 모드 테스트")
+class ReportInputTextBuilderCompactTest {
+
+    private static final ReportInputTextBuilder.Options COMPACT = new ReportInputTextBuilder.Options(true, 0);
+
+    @Test
+    @DisplayName("연속된 슬롯은 시작~끝 구간으로 묶인다")
+    void shouldCollapseConsecutiveSlotsIntoRanges() {
+        // given
+        Meeting meeting = createMeeting();
+        Map<Long, User> userMap = Map.of(1L, createUser(1L, "host"), 2L, createUser(2L, "user1"));
+        List<MeetingUserSelection> selections = List.of(
+                createSelection(2L, Map.of("2025-01-20", new int[]{20, 18, 19, 23}))
+        );
+
+        // when
+        String result = build(meeting, selections, userMap, COMPACT);
+
+        // then
+        assertThat(participantSection(result)).contains("- user1:\n  * 2025-01-20 (월): 18:00~21:00, 23:00~24:00\n");
+        assertThat(participantSection(result)).doesNotContain("18:00, 19:00");
+    }
+
+    @Test
+    @DisplayName("선택이 같은 참여자는 한 항목으로 묶이고, 인원이 많은 그룹이 먼저 나온다")
+    void shouldGroupIdenticalSelections() {
+        // given
+        Meeting meeting = createMeeting();
+        Map<Long, User> userMap = Map.of(
+                1L, createUser(1L, "host"),
+                2L, createUser(2L, "user1"),
+                3L, createUser(3L, "user2"),
+                4L, createUser(4L, "user3"));
+        List<MeetingUserSelection> selections = List.of(
+                createSelection(4L, Map.of("2025-01-21", new int[]{18})),
+                createSelection(2L, Map.of("2025-01-20", new int[]{18, 19}, "2025-01-21", new int[]{20})),
+                createSelection(3L, Map.of("2025-01-21", new int[]{20}, "2025-01-20", new int[]{19, 18}))
+        );
+
+        // when
+        String section = participantSection(build(meeting, selections, userMap, COMPACT));
+
+        // then
+        assertThat(section).startsWith(INPUT_PARTICIPANT_SELECTIONS_COMPACT
+                + "- user1, user2:\n  * 2025-01-20 (월): 18:00~20:00\n  * 2025-01-21 (화): 20:00~21:00\n"
+                + "- user3:\n  * 2025-01-21 (화): 18:00~19:00\n");
+    }
+
+    @Test
+    @DisplayName("섹션이 토큰 예산을 넘으면 남은 참여자 수만 표시하고 생략한다")
+    void shouldCapSectionWithinTokenBudget() {
+        // given
+        Meeting meeting = createMeeting();
+        Map<Long, User> userMap = new HashMap<>();
+        userMap.put(1L, createUser(1L, "host"));
+        List<MeetingUserSelection> selections = new ArrayList<>();
+        for (long userId = 2; userId < 42; userId++) {
+            userMap.put(userId, createUser(userId, "user" + userId));
+            int slot = (int) (userId % 24);
+            selections.add(createSelection(userId, Map.of(
+                    "2025-01-20", new int[]{slot},
+                    "2025-01-21", new int[]{(slot + 5) % 24})));
+        }
+
+        // when
+        String unlimited = participantSection(build(meeting, selections, userMap, COMPACT));
+        String capped = participantSection(build(meeting, selections, userMap, new ReportInputTextBuilder.Options(true, 200)));
+
+        // then
+        assertThat(unlimited).doesNotContain("생략");
+        assertThat(capped).containsPattern("- \\.\\.\\. 외 \\d+명 생략");
+        assertThat(TokenEstimator.estimate(capped)).isLessThan(TokenEstimator.estimate(unlimited));
+        assertThat(TokenEstimator.estimate(capped)).isLessThanOrEqualTo(200 + TokenEstimator.estimate(INPUT_PARTICIPANT_SELECTIONS_COMPACT) + 30);
+    }
+
+    @Test
+    @DisplayName("기본 모드는 기존처럼 참여자별 슬롯을 모두 나열한다")
+    void shouldKeepVerboseFormatByDefault() {
+        // given
+        Meeting meeting = createMeeting();
+        Map<Long, User> userMap = Map.of(1L, createUser(1L, "host"), 2L, createUser(2L, "user1"));
+        List<MeetingUserSelection> selections = List.of(
+                createSelection(2L, Map.of("2025-01-20", new int[]{18, 19}))
+        );
+
+        // when
+        String result = build(meeting, selections, userMap, ReportInputTextBuilder.Options.VERBOSE);
+
+        // then
+        assertThat(result).contains("- user1:\n  * 2025-01-20 (월): 18:00, 19:00\n");
+    }
+
+    private String build(Meeting meeting, List<MeetingUserSelection> selections, Map<Long, User> userMap,
+                         ReportInputTextBuilder.Options options) {
+        return ReportInputTextBuilder.build(meeting, selections, userMap,
+                Collections.emptyList(), Collections.emptyList(), options);
+    }
+
+    private String participantSection(String result) {
+        return result.substring(result.indexOf(INPUT_PARTICIPANT_SELECTIONS_COMPACT));
+    }
+
+    private Meeting createMeeting() {
+        Map<String, int[]> availableDates = Map.of(
+                "2025-01-20", new int[]{18, 19, 20},
+                "2025-01-21", new int[]{18, 19, 20}
+        );
+        Meeting meeting = Meeting.create("TEST001", "Test Meeting", "Test description", 1L,
+                "Asia/Seoul", SelectionType.TIME, 60, availableDates);
+        ReflectionTestUtils.setField(meeting, "id", 1L);
+        return meeting;
+    }
+
+    private MeetingUserSelection createSelection(Long userId, Map<String, int[]> slots) {
+        return MeetingUserSelection.create(1L, userId, 60, slots);
+    }
+
+    private User createUser(Long id, String username) {
+        User user = User.builder()
+                .username(username)
+                .provider(User.AuthProvider.ANONYMOUS)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,34 @@
+package db.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V12 마이그레이션에 고정된 슬롯 선택 포맷 v1 인코딩 테스트
+ */
+class V12__encode_slot_selections_as_binaryTest {
+
+    @Test
+    @DisplayName("고정된 v1 인코딩은 애플리케이션 코덱과 무관하게 항상 같은 바이트를 만든다")
+    void shouldEncodeFrozenV1Format() {
+        // Given: 순서가 섞인 날짜, TIME 슬롯과 ALL_DAY 빈 배열
+        Map<String, int[]> selections = new LinkedHashMap<>();
+        selections.put("2024-02-17", new int[]{});
+        selections.put("2024-02-15", new int[]{10, 9});
+
+        // When
+        byte[] encoded = V12__encode_slot_selections_as_binary.encodeV1(selections);
+
+        // Then: 버전, 날짜 수, zigzag(epochDay 19768), 일수 차이, 비트마스크 길이/바이트
+        assertThat(encoded).containsExactly(
+                0x01, 0x02,
+                0xF0, 0xB4, 0x02, 0x00, 0x02, 0x00, 0x06,
+                0x02, 0x00
+        );
+    }
+}